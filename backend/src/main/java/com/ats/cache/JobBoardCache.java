@@ -0,0 +1,80 @@
+package com.ats.cache;
+
+import com.ats.config.CacheConfig;
+import com.ats.dto.JobDTO;
+import com.ats.dto.JobFacetsDTO;
+import com.ats.event.JobChangedEvent;
+import com.ats.event.JobsExpiredEvent;
+import com.ats.model.RegionView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches for the public job board: the mapped active jobs, one
+ * entry per region view, and the facet counts per filter set.
+ * Evictions are driven by job events after commit so a concurrent reader
+ * cannot repopulate an entry with uncommitted state.
+ */
+@Component
+public class JobBoardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobBoardCache.class);
+
+    private final Cache activeJobs;
+    private final Cache facets;
+
+    public JobBoardCache(CacheManager cacheManager) {
+        this.activeJobs = cacheManager.getCache(CacheConfig.ACTIVE_JOBS_CACHE);
+        this.facets = cacheManager.getCache(CacheConfig.JOB_FACETS_CACHE);
+    }
+
+    /**
+     * Get the active jobs for a region view, loading them on a miss.
+     * Concurrent misses for the same view share a single load.
+     */
+    public List<JobDTO> getActiveJobs(RegionView view, Supplier<List<JobDTO>> loader) {
+        return activeJobs.get(view, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Get the facet counts for a filter set, loading them on a miss
+     *
+     * @param key a value identifying the region view and filters, with equals and hashCode
+     */
+    public JobFacetsDTO getFacets(Object key, Supplier<JobFacetsDTO> loader) {
+        return facets.get(key, loader::get);
+    }
+
+    /**
+     * Evict the entries that can contain the changed job once its transaction
+     * commits: the unrestricted view and the view matching the job's region.
+     * Facets are cleared as any filter set may count the job.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        RegionView regionView = "EU".equals(event.getRegion()) ? RegionView.EU : RegionView.NON_EU;
+        activeJobs.evict(RegionView.UNRESTRICTED);
+        activeJobs.evict(regionView);
+        facets.clear();
+        logger.debug("Evicted job board cache for views {} and {} (job ID: {})",
+            RegionView.UNRESTRICTED, regionView, event.getJobId());
+    }
+
+    /**
+     * Evict every entry after jobs expire, which can span regions
+     */
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        activeJobs.clear();
+        facets.clear();
+        logger.debug("Cleared job board cache after {} job(s) expired", event.getJobIds().size());
+    }
+}
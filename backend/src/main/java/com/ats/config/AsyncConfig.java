@@ -21,4 +21,15 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-} 
\ No newline at end of file
+
+    @Bean(name = "jobRescoreExecutor")
+    public Executor jobRescoreExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("JobRescore-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ats.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. Caches and their Caffeine spec are
+ * declared in application.properties (spring.cache.*) so Spring Boot can
+ * register hit/miss metrics for them at startup.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACTIVE_JOBS_CACHE = "activeJobs";
+    public static final String JOB_FACETS_CACHE = "jobFacets";
+}
@@ -127,7 +127,11 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/user-job-preferences").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/user-job-preferences/check-email").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/jobs", "/api/jobs/*", "/api/jobs/*/custom-questions").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/job-board/**").permitAll()
                 .requestMatchers("/api/jobs/**").authenticated()
+                // Health stays open for container, Kubernetes and deploy probes; metrics are admin-only
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .oauth2Login(oauth2 -> oauth2
@@ -252,9 +256,9 @@ public class SecurityConfig {
         
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
-            "Access-Control-Request-Method", "Access-Control-Request-Headers"));
+            "Access-Control-Request-Method", "Access-Control-Request-Headers", "Idempotency-Key"));
         configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "Access-Control-Allow-Origin",
-            "Access-Control-Allow-Credentials"));
+            "Access-Control-Allow-Credentials", "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -33,9 +33,9 @@ public class WebConfig implements WebMvcConfigurer {
                    .allowedOriginPatterns("*")
                    .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                    .allowedHeaders("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
-                       "Access-Control-Request-Method", "Access-Control-Request-Headers")
+                       "Access-Control-Request-Method", "Access-Control-Request-Headers", "Idempotency-Key")
                    .exposedHeaders("Authorization", "Content-Type", "Access-Control-Allow-Origin",
-                       "Access-Control-Allow-Credentials")
+                       "Access-Control-Allow-Credentials", "Idempotent-Replayed")
                    .allowCredentials(true)
                    .maxAge(3600);
         } else {
@@ -43,9 +43,9 @@ public class WebConfig implements WebMvcConfigurer {
                    .allowedOrigins(allowedOrigins.split(","))
                    .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                    .allowedHeaders("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
-                       "Access-Control-Request-Method", "Access-Control-Request-Headers")
+                       "Access-Control-Request-Method", "Access-Control-Request-Headers", "Idempotency-Key")
                    .exposedHeaders("Authorization", "Content-Type", "Access-Control-Allow-Origin",
-                       "Access-Control-Allow-Credentials")
+                       "Access-Control-Allow-Credentials", "Idempotent-Replayed")
                    .allowCredentials(true)
                    .maxAge(3600);
         }
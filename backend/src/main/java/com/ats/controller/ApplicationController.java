@@ -1,14 +1,23 @@
 package com.ats.controller;
 
 import com.ats.dto.ApplicationDTO;
+import com.ats.dto.BulkStatusUpdateRequest;
+import com.ats.dto.BulkStatusUpdateResultDTO;
+import com.ats.dto.CandidateApplicationSummaryDTO;
 import com.ats.dto.JobOfferEmailRequest;
 import com.ats.exception.AtsCustomExceptions.BadRequestException;
 import com.ats.exception.AtsCustomExceptions.NotFoundException;
+import com.ats.exception.ResourceAlreadyExistsException;
+import com.ats.model.ApplicantSort;
 import com.ats.model.ApplicationStatus;
+import com.ats.model.ResumeScore;
 import com.ats.model.User;
+import com.ats.repository.JobRepository;
 import com.ats.repository.UserRepository;
+import com.ats.service.ApplicationExportService;
 import com.ats.service.ApplicationService;
 import com.ats.service.FileStorageService;
+import com.ats.service.IdempotencyService;
 import com.ats.service.JobCustomQuestionService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +28,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,17 +36,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.mail.MessagingException;
@@ -52,16 +76,27 @@ public class ApplicationController {
 	private final FileStorageService fileStorageService;
 	private final ObjectMapper objectMapper;
 	private final UserRepository userRepository;
+	private final JobRepository jobRepository;
+	private final ApplicationExportService applicationExportService;
+	private final IdempotencyService idempotencyService;
+	private static final int MAX_STATS_JOB_IDS = 500;
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+	private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
 	@Autowired
 	public ApplicationController(ApplicationService applicationService,
 			JobCustomQuestionService jobCustomQuestionService, FileStorageService fileStorageService,
-			ObjectMapper objectMapper, UserRepository userRepository) {
+			ObjectMapper objectMapper, UserRepository userRepository, JobRepository jobRepository,
+			ApplicationExportService applicationExportService, IdempotencyService idempotencyService) {
 		this.applicationService = applicationService;
 		this.jobCustomQuestionService = jobCustomQuestionService;
 		this.fileStorageService = fileStorageService;
 		this.objectMapper = objectMapper;
 		this.userRepository = userRepository;
+		this.jobRepository = jobRepository;
+		this.applicationExportService = applicationExportService;
+		this.idempotencyService = idempotencyService;
 	}
 
 	@Operation(summary = "Submit a job application", description = "Submit a new job application with answers to custom questions")
@@ -69,44 +104,121 @@ public class ApplicationController {
 			@ApiResponse(responseCode = "201", description = "Application submitted successfully", content = @Content(schema = @Schema(implementation = ApplicationDTO.class))),
 			@ApiResponse(responseCode = "400", description = "Invalid input data or missing required questions"),
 			@ApiResponse(responseCode = "404", description = "Job not found"),
-			@ApiResponse(responseCode = "409", description = "Already applied to this job"),
+			@ApiResponse(responseCode = "409", description = "Already applied to this job, or a submission with the same Idempotency-Key is in progress"),
+			@ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different submission"),
 			@ApiResponse(responseCode = "500", description = "Internal server error") })
 	@PostMapping(consumes = { "multipart/form-data" })
 	public ResponseEntity<?> submitApplication(@Valid @RequestPart("applicationDTO") ApplicationDTO applicationDTO,
 			@AuthenticationPrincipal UserDetails userDetails,
-			@RequestPart(value = "files", required = false) MultipartFile[] files) {
+			@RequestPart(value = "files", required = false) MultipartFile[] files,
+			@Parameter(description = "Client-generated key that makes retries of this submission safe")
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
+		String idempotencyScope = null;
 		try {
 			// Extract the user ID from the authenticated user
 			// In a real implementation, you would extract the user ID from UserDetails
 			// For now, we'll use a placeholder that would be replaced with actual code
 			Long candidateId = extractUserIdFromUserDetails(userDetails);
 
+			if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+				if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+					throw new BadRequestException("Idempotency-Key must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+				}
+				String scope = "application-submit:" + candidateId;
+				IdempotencyService.Claim claim = idempotencyService.begin(scope, idempotencyKey,
+						hashSubmission(applicationDTO, files));
+				switch (claim.state()) {
+					case COMPLETED:
+						log.info("Replaying application submission for idempotency key {}", idempotencyKey);
+						return ResponseEntity.status(claim.responseStatus())
+								.header(IDEMPOTENT_REPLAYED_HEADER, "true")
+								.contentType(MediaType.APPLICATION_JSON)
+								.body(claim.responseBody());
+					case IN_PROGRESS:
+						return ResponseEntity.status(HttpStatus.CONFLICT)
+								.body(Map.of("error", "A submission with this Idempotency-Key is still being processed"));
+					case MISMATCH:
+						return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+								.body(Map.of("error", "Idempotency-Key was already used for a different submission"));
+					default:
+						idempotencyScope = scope;
+				}
+			}
+
 			ApplicationDTO submittedApplication = applicationService.submitApplication(applicationDTO, candidateId,
 					files);
 			log.info("Application submitted successfully with ID: {}", submittedApplication.getId());
 
+			if (idempotencyScope != null) {
+				try {
+					idempotencyService.complete(idempotencyScope, idempotencyKey, HttpStatus.CREATED.value(),
+							objectMapper.writeValueAsString(submittedApplication));
+				} catch (Exception e) {
+					// The application is already committed, so it must not be reported as failed;
+					// the key stays claimed until its lease runs out
+					log.error("Failed to record the response for Idempotency-Key {} of application {}", idempotencyKey,
+							submittedApplication.getId(), e);
+				}
+			}
+
 			return new ResponseEntity<>(submittedApplication, HttpStatus.CREATED);
 
 		} catch (BadRequestException e) {
+			releaseIdempotencyKey(idempotencyScope, idempotencyKey);
 			log.warn("Bad request when submitting application: {}", e.getMessage());
 			Map<String, String> response = new HashMap<>();
 			response.put("error", e.getMessage());
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
 
 		} catch (NotFoundException e) {
+			releaseIdempotencyKey(idempotencyScope, idempotencyKey);
 			log.warn("Resource not found when submitting application: {}", e.getMessage());
 			Map<String, String> response = new HashMap<>();
 			response.put("error", e.getMessage());
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
 
+		} catch (ResourceAlreadyExistsException e) {
+			releaseIdempotencyKey(idempotencyScope, idempotencyKey);
+			log.warn("Duplicate application submission: {}", e.getMessage());
+			Map<String, String> response = new HashMap<>();
+			response.put("error", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+
 		} catch (Exception e) {
+			releaseIdempotencyKey(idempotencyScope, idempotencyKey);
 			log.error("Error submitting application", e);
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
 					"An error occurred while submitting the application", e);
 		}
 	}
 
+	/**
+	 * Fingerprint a submission so a reused Idempotency-Key with a different payload is rejected
+	 */
+	private String hashSubmission(ApplicationDTO applicationDTO, MultipartFile[] files) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(objectMapper.writeValueAsBytes(applicationDTO));
+		if (files != null) {
+			for (MultipartFile file : files) {
+				String fileInfo = "|" + file.getOriginalFilename() + "|" + file.getSize() + "|" + file.getContentType();
+				digest.update(fileInfo.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void releaseIdempotencyKey(String scope, String key) {
+		if (scope == null) {
+			return;
+		}
+		try {
+			idempotencyService.release(scope, key);
+		} catch (Exception e) {
+			log.error("Failed to release idempotency key {}", key, e);
+		}
+	}
+
 	@Operation(summary = "Check application status", description = "Check if the authenticated user has already applied to a specific job")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns application status"),
 			@ApiResponse(responseCode = "404", description = "Job not found"),
@@ -137,16 +249,17 @@ public class ApplicationController {
 		}
 	}
 
-	@Operation(summary = "Get candidate's applications", description = "Get all applications submitted by the authenticated user")
+	@Operation(summary = "Get candidate's applications", description = "Get the authenticated user's applications, newest first, with job title and next interview")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns paginated list of applications"),
 			@ApiResponse(responseCode = "500", description = "Internal server error") })
 	@GetMapping("/my-applications")
-	public ResponseEntity<Page<ApplicationDTO>> getMyApplications(@PageableDefault(size = 10) Pageable pageable,
-			@AuthenticationPrincipal UserDetails userDetails) {
+	public ResponseEntity<Page<CandidateApplicationSummaryDTO>> getMyApplications(
+			@PageableDefault(size = 10) Pageable pageable, @AuthenticationPrincipal UserDetails userDetails) {
 
 		try {
 			Long candidateId = extractUserIdFromUserDetails(userDetails);
-			Page<ApplicationDTO> applications = applicationService.getApplicationsByCandidateId(candidateId, pageable);
+			Page<CandidateApplicationSummaryDTO> applications = applicationService
+					.getCandidateApplicationSummaries(candidateId, pageable);
 
 			return ResponseEntity.ok(applications);
 
@@ -234,6 +347,98 @@ public class ApplicationController {
 		}
 	}
 
+	@Operation(summary = "Get a job's applicant list", description = "Keyset-paginated applicant summaries for a job (admin only), "
+			+ "ordered by submission date or overall resume score. Pass the returned nextCursor as 'cursor' to fetch the following page.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns a page of applicant summaries"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor"),
+			@ApiResponse(responseCode = "404", description = "Job not found"),
+			@ApiResponse(responseCode = "403", description = "Forbidden - not authorized") })
+	@GetMapping("/job/{jobId}/applicants")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<?> getApplicantsPage(@PathVariable Long jobId,
+			@RequestParam(required = false) ApplicationStatus status,
+			@RequestParam(required = false, defaultValue = "DATE") ApplicantSort sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+
+		try {
+			return ResponseEntity.ok(applicationService.getApplicantsPage(jobId, status, sort, cursor, size));
+
+		} catch (BadRequestException e) {
+			Map<String, String> response = new HashMap<>();
+			response.put("error", e.getMessage());
+			return ResponseEntity.badRequest().body(response);
+
+		} catch (NotFoundException e) {
+			log.warn("Job not found: {}", e.getMessage());
+			Map<String, String> response = new HashMap<>();
+			response.put("error", e.getMessage());
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+		}
+	}
+
+	@Operation(summary = "Get a job's top applicants", description = "The best-scoring applicants of a job (admin only), "
+			+ "ranked by one of the extracted resume scores. Unscored applicants are left out.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns the top applicants, best first"),
+			@ApiResponse(responseCode = "404", description = "Job not found"),
+			@ApiResponse(responseCode = "403", description = "Forbidden - not authorized") })
+	@GetMapping("/job/{jobId}/top")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<?> getTopApplicants(@PathVariable Long jobId,
+			@RequestParam(required = false) ApplicationStatus status,
+			@RequestParam(required = false, defaultValue = "OVERALL") ResumeScore score,
+			@RequestParam(required = false, defaultValue = "50") Integer limit) {
+
+		try {
+			return ResponseEntity.ok(applicationService.getTopApplicants(jobId, status, score, limit));
+
+		} catch (NotFoundException e) {
+			log.warn("Job not found: {}", e.getMessage());
+			Map<String, String> response = new HashMap<>();
+			response.put("error", e.getMessage());
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+		}
+	}
+
+	@Operation(summary = "Export a job's applicants as CSV", description = "Streams every application of a job (admin only) with candidate fields, "
+			+ "extracted resume scores and one column per custom question")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "CSV download"),
+			@ApiResponse(responseCode = "404", description = "Job not found"),
+			@ApiResponse(responseCode = "403", description = "Forbidden - not authorized") })
+	@GetMapping(value = "/job/{jobId}/export", produces = "text/csv")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<StreamingResponseBody> exportApplicants(@PathVariable Long jobId, HttpServletRequest request) {
+		// Checked up front: once streaming starts the status line is already sent
+		if (!jobRepository.existsById(jobId)) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found with ID: " + jobId);
+		}
+
+		// The body is written on an async thread bounded by spring.mvc.async.request-timeout; once that
+		// expires the request is completed without it, so tell the writer to stop at its next row
+		AtomicBoolean cancelled = new AtomicBoolean();
+		WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("applicantExport",
+				new CallableProcessingInterceptor() {
+					@Override
+					public <T> Object handleTimeout(NativeWebRequest webRequest, Callable<T> task) {
+						log.warn("Applicant export for job ID {} timed out, cancelling it", jobId);
+						cancelled.set(true);
+						return RESULT_NONE;
+					}
+
+					@Override
+					public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+						cancelled.set(true);
+					}
+				});
+
+		StreamingResponseBody body = out -> applicationExportService.writeApplicantsCsv(jobId, out, cancelled::get);
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename("job-" + jobId + "-applicants.csv").build().toString())
+				.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+				.body(body);
+	}
+
 	@Operation(summary = "Get applications by user ID", description = "Get all applications for a specific user (admin only)")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns paginated list of applications"),
 			@ApiResponse(responseCode = "404", description = "User not found"),
@@ -302,6 +507,18 @@ public class ApplicationController {
 		}
 	}
 
+	@Operation(summary = "Update many applications' status", description = "Move a list of applications to one status at once (admin only). "
+			+ "Items may carry the version last seen to guard against concurrent changes; the outcome of each item is reported.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns the outcome per application"),
+			@ApiResponse(responseCode = "400", description = "Invalid request"),
+			@ApiResponse(responseCode = "403", description = "Forbidden - not authorized") })
+	@PatchMapping("/bulk/status")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<BulkStatusUpdateResultDTO> bulkUpdateApplicationStatus(
+			@Valid @RequestBody BulkStatusUpdateRequest request) {
+		return ResponseEntity.ok(applicationService.bulkUpdateStatus(request));
+	}
+
 	@Operation(summary = "Get job application statistics", description = "Get statistics about applications for a specific job (admin only)")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns application statistics"),
 			@ApiResponse(responseCode = "404", description = "Job not found"),
@@ -327,6 +544,21 @@ public class ApplicationController {
 		}
 	}
 
+	@Operation(summary = "Get application statistics for many jobs", description = "Application counts per status for each of the given jobs (admin only), "
+			+ "read from precomputed per-job counters")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Returns application statistics keyed by job ID"),
+			@ApiResponse(responseCode = "400", description = "Too many job IDs"),
+			@ApiResponse(responseCode = "403", description = "Forbidden - not authorized") })
+	@GetMapping("/stats/jobs")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<?> getApplicationStatsByJobIds(@RequestParam List<Long> jobIds) {
+		if (jobIds.size() > MAX_STATS_JOB_IDS) {
+			return ResponseEntity.badRequest()
+					.body(Map.of("error", "At most " + MAX_STATS_JOB_IDS + " job IDs can be requested at once"));
+		}
+		return ResponseEntity.ok(applicationService.getApplicationStatsByJobIds(new LinkedHashSet<>(jobIds)));
+	}
+
 	@Operation(summary = "Delete an application", description = "Delete an application (can be done by the candidate who submitted it or an admin)")
 	@ApiResponses(value = { @ApiResponse(responseCode = "204", description = "Application deleted successfully"),
 			@ApiResponse(responseCode = "404", description = "Application not found"),
@@ -0,0 +1,124 @@
+package com.ats.controller;
+
+import com.ats.model.RegionView;
+import com.ats.service.JobBoardSnapshotService;
+import com.ats.service.JobBoardSnapshotService.Snapshot;
+import com.ats.util.IPUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/job-board")
+@RequiredArgsConstructor
+@Tag(name = "Job Board Snapshots", description = "Pre-rendered, content-addressed job board documents for the career site")
+public class JobBoardSnapshotController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobBoardSnapshotController.class);
+
+    private static final String SNAPSHOT_PATH = "/api/job-board/snapshots/";
+
+    private final JobBoardSnapshotService snapshotService;
+
+    @Value("${app.jobs.snapshot.max-age:60s}")
+    private Duration maxAge;
+
+    @GetMapping("/jobs")
+    @Operation(summary = "Get the active jobs snapshot",
+        description = "Active jobs for the career site; ist.com requests get EU jobs only. " +
+                      "Content-Location points at the immutable, content-addressed copy.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot returned"),
+        @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the given ETag")
+    })
+    public ResponseEntity<byte[]> getActiveJobs(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        RegionView view = IPUtils.isISTSubdomain() ? RegionView.EU : RegionView.UNRESTRICTED;
+        logger.debug("REST request to get active jobs snapshot for view {}", view);
+        return serve(snapshotService.getActiveJobs(view), acceptEncoding, ifNoneMatch, revalidated(), true);
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Get a job detail snapshot", description = "Detail of an active job including its custom questions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot returned"),
+        @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the given ETag"),
+        @ApiResponse(responseCode = "404", description = "Job not found or not active")
+    })
+    public ResponseEntity<byte[]> getJob(
+        @PathVariable("id") Long id,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return snapshotService.getJob(id)
+            .map(snapshot -> serve(snapshot, acceptEncoding, ifNoneMatch, revalidated(), true))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/snapshots/{hash}")
+    @Operation(summary = "Get a snapshot by content hash", description = "Immutable; safe to cache indefinitely")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot returned"),
+        @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the given ETag"),
+        @ApiResponse(responseCode = "404", description = "Unknown hash")
+    })
+    public ResponseEntity<byte[]> getByHash(
+        @PathVariable("hash") String hash,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CacheControl immutable = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        return snapshotService.getByHash(hash)
+            .map(snapshot -> serve(snapshot, acceptEncoding, ifNoneMatch, immutable, false))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private CacheControl revalidated() {
+        return CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * Serve a snapshot with a strong ETag per encoding, answering 304 when the client already has it
+     */
+    private ResponseEntity<byte[]> serve(Snapshot snapshot, String acceptEncoding, String ifNoneMatch,
+                                         CacheControl cacheControl, boolean withContentLocation) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = "\"" + snapshot.getHash() + (gzip ? "-gzip" : "") + "\"";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl);
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (withContentLocation) {
+            headers.set(HttpHeaders.CONTENT_LOCATION, SNAPSHOT_PATH + snapshot.getHash());
+        }
+
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(gzip ? snapshot.getGzip() : snapshot.getJson());
+    }
+}
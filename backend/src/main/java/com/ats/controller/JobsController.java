@@ -9,12 +9,16 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ats.dto.CursorPageDTO;
 import com.ats.dto.JobDTO;
+import com.ats.dto.JobFacetsDTO;
+import com.ats.dto.JobRescoreRunDTO;
 import com.ats.dto.UserDTO;
 import com.ats.model.JobStatus;
 import com.ats.model.User;
 import com.ats.model.WorkSetting;
 import com.ats.repository.UserRepository;
+import com.ats.service.JobRescoreService;
 import com.ats.service.JobService;
 import com.ats.service.RegionalDataFilterService;
 import com.beust.jcommander.Parameter;
@@ -50,11 +54,14 @@ public class JobsController {
     private final JobService jobService;
     private final RegionalDataFilterService regionalDataFilterService;
     private final UserRepository userRepository;
+    private final JobRescoreService jobRescoreService;
 
-    public JobsController(JobService jobService, RegionalDataFilterService regionalDataFilterService, UserRepository userRepository){
+    public JobsController(JobService jobService, RegionalDataFilterService regionalDataFilterService, UserRepository userRepository,
+                          JobRescoreService jobRescoreService){
         this.jobService = jobService;
         this.regionalDataFilterService = regionalDataFilterService;
         this.userRepository = userRepository;
+        this.jobRescoreService = jobRescoreService;
     }
     
     private User getCurrentUser() {
@@ -132,6 +139,49 @@ public class JobsController {
         return ResponseEntity.ok(jobService.getAllJobs(jobStatuses,workSetting,description));
     }
 
+    @GetMapping("/page")
+    @Operation(
+        summary = "Get jobs with filters, cursor paginated",
+        description = "Keyset-paginated variant of the job listing, ordered by posted date then id (newest first). " +
+                      "Pass the returned nextCursor as 'cursor' to fetch the following page."
+    )
+    public ResponseEntity<CursorPageDTO<JobDTO>> getJobsPage(
+        @RequestParam(required = false) List<JobStatus> jobStatuses,
+        @RequestParam(required = false) List<WorkSetting> workSetting,
+        @RequestParam(required = false) String description,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        logger.debug("Getting jobs page - statuses: {}, workSettings: {}, description: {}, cursor: {}, size: {}",
+                    jobStatuses, workSetting, description, cursor, size);
+        return ResponseEntity.ok(jobService.getJobsPage(jobStatuses, workSetting, description, cursor, size));
+    }
+
+    @GetMapping("/facets")
+    @Operation(
+        summary = "Get job facet counts",
+        description = "Counts per status, work setting, department, category and region for the given filters, " +
+                      "computed in one grouped query and cached until jobs change"
+    )
+    public ResponseEntity<JobFacetsDTO> getJobFacets(
+        @RequestParam(required = false) List<JobStatus> jobStatuses,
+        @RequestParam(required = false) List<WorkSetting> workSetting,
+        @RequestParam(required = false) String description
+    ) {
+        logger.debug("Getting job facets - statuses: {}, workSettings: {}, description: {}",
+                    jobStatuses, workSetting, description);
+        return ResponseEntity.ok(jobService.getJobFacets(jobStatuses, workSetting, description));
+    }
+
+    @GetMapping("/active")
+    @Operation(
+        summary = "Get active jobs",
+        description = "Published and reopened jobs visible in the caller's region view, served from an in-process cache"
+    )
+    public ResponseEntity<List<JobDTO>> getActiveJobs() {
+        return ResponseEntity.ok(jobService.getActiveJobs());
+    }
+
 
 
     @GetMapping("/{id}")
@@ -183,7 +233,40 @@ public class JobsController {
         return ResponseEntity.ok(jobService.updateJob(jobDTO, id));
     }
 
+    @PostMapping("/{id}/rescore")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @Operation(
+        summary = "Re-score applicants",
+        description = "Recompute every analyzed applicant's score against the job's current description and skills. " +
+            "Runs in the background; poll GET /api/jobs/{id}/rescore for progress"
+    )
+    public ResponseEntity<JobRescoreRunDTO> rescoreApplicants(@PathVariable Long id) {
+        JobDTO existingJob = jobService.getJobById(id);
+        if (!canAccessJobRegion(existingJob.getRegion())) {
+            logger.warn("Access denied: User cannot re-score applicants of job ID {} in region {}", id, existingJob.getRegion());
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.accepted().body(jobRescoreService.startRescore(id));
+    }
+
+    @GetMapping("/{id}/rescore")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @Operation(
+        summary = "Get re-score progress",
+        description = "Get the most recent applicant re-score run of a job"
+    )
+    public ResponseEntity<JobRescoreRunDTO> getRescoreProgress(@PathVariable Long id) {
+        JobDTO existingJob = jobService.getJobById(id);
+        if (!canAccessJobRegion(existingJob.getRegion())) {
+            logger.warn("Access denied: User cannot view re-score progress of job ID {} in region {}", id, existingJob.getRegion());
+            return ResponseEntity.status(403).build();
+        }
 
+        return jobRescoreService.getLatestRun(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
 
     @PatchMapping("/{id}/status")
     @Operation(
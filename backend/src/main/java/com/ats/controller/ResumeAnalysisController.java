@@ -5,6 +5,7 @@ import com.ats.model.Application;
 import com.ats.model.Job;
 import com.ats.repository.ApplicationRepository;
 import com.ats.repository.JobRepository;
+import com.ats.service.ResumeAnalysisQueue;
 import com.ats.service.ResumeAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +31,7 @@ public class ResumeAnalysisController {
     private final ResumeAnalysisService resumeAnalysisService;
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
+    private final ResumeAnalysisQueue resumeAnalysisQueue;
 
     @PostMapping("/analyze")
     @Operation(summary = "Analyze a resume file", description = "Upload and analyze a resume file using AI")
@@ -103,7 +105,7 @@ public class ResumeAnalysisController {
     @PostMapping("/applications/{applicationId}/analyze")
     @Operation(summary = "Analyze resume for an application", description = "Trigger resume analysis for a specific application")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "202", description = "Analysis started"),
+            @ApiResponse(responseCode = "202", description = "Analysis queued"),
             @ApiResponse(responseCode = "404", description = "Application not found"),
             @ApiResponse(responseCode = "500", description = "Analysis failed to start")
     })
@@ -124,10 +126,10 @@ public class ResumeAnalysisController {
                 return ResponseEntity.badRequest().body("No resume URL found for this application");
             }
             
-            // Start analysis
-            CompletableFuture<Application> future = resumeAnalysisService.analyzeAndUpdateApplication(application, application.getJob());
+            // Queue the analysis; a worker on any replica picks it up, and it survives restarts
+            resumeAnalysisQueue.enqueue(applicationId);
             
-            return ResponseEntity.accepted().body("Resume analysis started for application " + applicationId);
+            return ResponseEntity.accepted().body("Resume analysis queued for application " + applicationId);
             
         } catch (Exception e) {
             log.error("Error analyzing application resume: {}", e.getMessage(), e);
@@ -0,0 +1,107 @@
+package com.ats.controller;
+
+import com.ats.dto.SkillDTO;
+import com.ats.service.SkillTaxonomyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/skills")
+@RequiredArgsConstructor
+@Tag(name = "Skills", description = "APIs for managing the skill taxonomy used to match resumes to jobs")
+public class SkillController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillController.class);
+    
+    private final SkillTaxonomyService skillTaxonomyService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create a new skill", description = "Adds a skill and its synonyms to the taxonomy")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Skill created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "Skill name or synonym already in use")
+    })
+    public ResponseEntity<SkillDTO> createSkill(
+            @Validated({SkillDTO.OnCreate.class, Default.class}) @RequestBody SkillDTO skillDTO) {
+        logger.debug("REST request to create skill: {}", skillDTO.getName());
+        SkillDTO createdSkill = skillTaxonomyService.createSkill(skillDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdSkill);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all skills", description = "Retrieves all skills with their synonyms, including inactive ones")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Skills retrieved successfully")
+    })
+    public ResponseEntity<List<SkillDTO>> getAllSkills() {
+        logger.debug("REST request to get all skills");
+        return ResponseEntity.ok(skillTaxonomyService.getAllSkills());
+    }
+
+    @GetMapping("/active")
+    @Operation(summary = "Get active skills", description = "Retrieves only the skills currently matched in resumes and job descriptions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Active skills retrieved successfully")
+    })
+    public ResponseEntity<List<SkillDTO>> getActiveSkills() {
+        logger.debug("REST request to get active skills");
+        return ResponseEntity.ok(skillTaxonomyService.getActiveSkills());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get skill by ID", description = "Retrieves a specific skill by its ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Skill found"),
+        @ApiResponse(responseCode = "404", description = "Skill not found")
+    })
+    public ResponseEntity<SkillDTO> getSkillById(@PathVariable Long id) {
+        logger.debug("REST request to get skill with ID: {}", id);
+        return ResponseEntity.ok(skillTaxonomyService.getSkillById(id));
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update skill", description = "Updates a skill's name, synonyms or active flag")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Skill updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Skill not found"),
+        @ApiResponse(responseCode = "409", description = "Skill name or synonym already in use")
+    })
+    public ResponseEntity<SkillDTO> updateSkill(
+            @PathVariable Long id,
+            @Valid @RequestBody SkillDTO skillDTO) {
+        logger.debug("REST request to update skill with ID: {}", id);
+        return ResponseEntity.ok(skillTaxonomyService.updateSkill(id, skillDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete skill", description = "Soft deletes a skill by setting it as inactive, so it is no longer matched")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Skill deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "Skill not found")
+    })
+    public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
+        logger.debug("REST request to delete skill with ID: {}", id);
+        skillTaxonomyService.deleteSkill(id);
+        return ResponseEntity.noContent().build();
+    }
+}
+
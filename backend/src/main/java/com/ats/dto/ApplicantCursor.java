@@ -0,0 +1,75 @@
+package com.ats.dto;
+
+import com.ats.exception.AtsCustomExceptions.BadRequestException;
+import com.ats.model.ApplicantSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a job's applicant list. The sort key is the overall score
+ * for {@link ApplicantSort#SCORE} (null for unscored applications, which sort last)
+ * and the submission time for {@link ApplicantSort#DATE}; the id breaks ties.
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicantCursor {
+
+    private static final String NULL_SCORE = "_";
+    private static final String SEPARATOR = "|";
+
+    private final ApplicantSort sort;
+    private final Integer score;
+    private final OffsetDateTime createdAt;
+    private final Long id;
+
+    public static ApplicantCursor after(ApplicantSort sort, ApplicantSummaryDTO last) {
+        return new ApplicantCursor(sort, last.getOverallScore(), last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * Encode this position as an opaque URL-safe token
+     */
+    public String encode() {
+        String key = sort == ApplicantSort.SCORE
+                ? (score != null ? score.toString() : NULL_SCORE)
+                : createdAt.toString();
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * @param token the cursor token, may be null or blank
+     * @param sort the ordering of the requested page, which the token must have been issued for
+     * @return the decoded cursor, or null if no token was given
+     * @throws BadRequestException if the token is malformed or belongs to another ordering
+     */
+    public static ApplicantCursor decode(String token, ApplicantSort sort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+
+            Long id = Long.parseLong(parts[2]);
+            if (sort == ApplicantSort.SCORE) {
+                Integer score = NULL_SCORE.equals(parts[1]) ? null : Integer.parseInt(parts[1]);
+                return new ApplicantCursor(sort, score, null, id);
+            }
+            return new ApplicantCursor(sort, null, OffsetDateTime.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
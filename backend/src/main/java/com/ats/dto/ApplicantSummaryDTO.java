@@ -0,0 +1,59 @@
+package com.ats.dto;
+
+import com.ats.model.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One row of a job's applicant list")
+public class ApplicantSummaryDTO {
+
+    @Schema(description = "Application ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Candidate ID", example = "2")
+    private Long candidateId;
+
+    @Schema(description = "Candidate first name", example = "Jane")
+    private String candidateFirstName;
+
+    @Schema(description = "Candidate last name", example = "Doe")
+    private String candidateLastName;
+
+    @Schema(description = "Candidate email", example = "jane.doe@example.com")
+    private String candidateEmail;
+
+    @Schema(description = "Application status", example = "APPLIED")
+    private ApplicationStatus status;
+
+    @Schema(description = "Whether the candidate is shortlisted", example = "false")
+    private Boolean isShortlisted;
+
+    @Schema(description = "Overall resume score (0-100), null until the resume has been analyzed", example = "85")
+    private Integer overallScore;
+
+    @Schema(description = "Job match score (0-100)", example = "78")
+    private Integer jobMatchScore;
+
+    @Schema(description = "Skills match score (0-100)", example = "82")
+    private Integer skillsMatchScore;
+
+    @Schema(description = "Experience level score (0-100)", example = "90")
+    private Integer experienceScore;
+
+    @Schema(description = "Total years of experience extracted from the resume", example = "5.5")
+    private BigDecimal totalExperienceYears;
+
+    @Schema(description = "When the application was submitted")
+    private OffsetDateTime createdAt;
+
+    @Schema(description = "Optimistic lock version, for bulk status transitions", example = "3")
+    private Long version;
+}
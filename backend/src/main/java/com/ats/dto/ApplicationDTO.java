@@ -63,6 +63,9 @@ public class ApplicationDTO {
     @Schema(description = "Date and time when the application was last updated", accessMode = Schema.AccessMode.READ_ONLY)
     private ZonedDateTime updatedAt;
 
+    @Schema(description = "Optimistic lock version, echoed back in bulk status transitions", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     @Schema(description = "AI-powered resume analysis data", accessMode = Schema.AccessMode.READ_ONLY)
     private ResumeAnalysisDTO resumeAnalysis;
 
@@ -0,0 +1,44 @@
+package com.ats.dto;
+
+import com.ats.model.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Move many applications to one status at once")
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "Target status", example = "REVIEWED")
+    private ApplicationStatus status;
+
+    @NotEmpty(message = "At least one application is required")
+    @Size(max = 1000, message = "At most 1000 applications can be moved at once")
+    @Valid
+    @Schema(description = "Applications to move")
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "Application ID is required")
+        @Schema(description = "Application ID", example = "1")
+        private Long id;
+
+        @Schema(description = "Version the client last saw; the move is rejected if the application changed since. "
+                + "Omit to skip the check.", example = "3")
+        private Long version;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ats.dto;
+
+import com.ats.model.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per-application outcome of a bulk status transition")
+public class BulkStatusUpdateResultDTO {
+
+    public enum Outcome {
+        /** Moved to the target status */
+        UPDATED,
+        /** Already in the target status, left untouched */
+        UNCHANGED,
+        /** Changed by someone else since the given version */
+        VERSION_CONFLICT,
+        NOT_FOUND
+    }
+
+    @Schema(description = "Target status", example = "REVIEWED")
+    private ApplicationStatus status;
+
+    @Schema(description = "Number of applications moved", example = "42")
+    private int updatedCount;
+
+    @Schema(description = "Outcome per requested application, in request order")
+    private List<ItemResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        @Schema(description = "Application ID", example = "1")
+        private Long id;
+
+        @Schema(description = "What happened to this application", example = "UPDATED")
+        private Outcome outcome;
+
+        @Schema(description = "Current version of the application, null if not found", example = "4")
+        private Long version;
+    }
+}
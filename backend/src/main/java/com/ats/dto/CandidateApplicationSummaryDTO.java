@@ -0,0 +1,44 @@
+package com.ats.dto;
+
+import com.ats.model.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One row of a candidate's own application list")
+public class CandidateApplicationSummaryDTO {
+
+    @Schema(description = "Application ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Job ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "Job title", example = "Senior Software Engineer")
+    private String jobTitle;
+
+    @Schema(description = "Job department", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Job region", example = "EU")
+    private String region;
+
+    @Schema(description = "Application status", example = "INTERVIEWING")
+    private ApplicationStatus status;
+
+    @Schema(description = "When the application was submitted")
+    private OffsetDateTime createdAt;
+
+    @Schema(description = "When the application was last updated")
+    private OffsetDateTime updatedAt;
+
+    @Schema(description = "Start of the next scheduled interview, null if none is coming up")
+    private LocalDateTime nextInterviewAt;
+}
@@ -0,0 +1,30 @@
+package com.ats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A page of results fetched with keyset (cursor) pagination")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Items in this page, in stable sort order")
+    private List<T> items;
+
+    @Schema(
+        description = "Opaque token to pass as 'cursor' to fetch the next page, null when there are no more results",
+        example = "MjAyNC0xMS0xMXw0Mg"
+    )
+    private String nextCursor;
+
+    @Schema(description = "Whether more results exist after this page", example = "true")
+    private boolean hasMore;
+
+    @Schema(description = "Effective page size used for this request", example = "20")
+    private int size;
+}
@@ -0,0 +1,22 @@
+package com.ats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of jobs sharing one value of a facet")
+public class FacetCountDTO {
+
+    @Schema(description = "Facet value to filter by, null for jobs without a value", example = "REMOTE")
+    private String value;
+
+    @Schema(description = "Display label for the value", example = "REMOTE")
+    private String label;
+
+    @Schema(description = "Number of matching jobs", example = "12")
+    private long count;
+}
@@ -0,0 +1,62 @@
+package com.ats.dto;
+
+import com.ats.exception.AtsCustomExceptions.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the job listing, ordered by (posted_date DESC, id DESC).
+ * A null postedDate marks a position among unpublished jobs, which PostgreSQL
+ * sorts first for DESC ordering.
+ */
+@Getter
+@AllArgsConstructor
+public class JobCursor {
+
+    private static final String NULL_DATE = "_";
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate postedDate;
+    private final Long id;
+
+    /**
+     * Encode this position as an opaque URL-safe token
+     */
+    public String encode() {
+        String date = postedDate != null ? postedDate.toString() : NULL_DATE;
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * @param token the cursor token, may be null or blank
+     * @return the decoded cursor, or null if no token was given
+     * @throws BadRequestException if the token is malformed
+     */
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+
+            String date = raw.substring(0, separator);
+            Long id = Long.parseLong(raw.substring(separator + 1));
+            return new JobCursor(NULL_DATE.equals(date) ? null : LocalDate.parse(date), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
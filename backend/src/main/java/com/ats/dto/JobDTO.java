@@ -162,6 +162,13 @@ public class JobDTO {
     )
     private String categoryColor;
 
+    @Schema(
+        description = "Full-text relevance score, only set when the listing was filtered by a search term",
+        example = "0.42",
+        accessMode = Schema.AccessMode.READ_ONLY
+    )
+    private Double relevance;
+
     // Getters and Setters (or use Lombok @Data if preferred)
     
     // Optional: Constructors, toString, equals, etc.
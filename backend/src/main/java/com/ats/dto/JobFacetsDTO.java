@@ -0,0 +1,32 @@
+package com.ats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "Job counts per facet for the current filter set")
+public class JobFacetsDTO {
+
+    @Schema(description = "Total number of jobs matching the filters", example = "42")
+    private long total;
+
+    @Schema(description = "Counts per job status")
+    private List<FacetCountDTO> statuses = new ArrayList<>();
+
+    @Schema(description = "Counts per work setting")
+    private List<FacetCountDTO> workSettings = new ArrayList<>();
+
+    @Schema(description = "Counts per department")
+    private List<FacetCountDTO> departments = new ArrayList<>();
+
+    @Schema(description = "Counts per category; the value is the category id and the label its name")
+    private List<FacetCountDTO> categories = new ArrayList<>();
+
+    @Schema(description = "Counts per region")
+    private List<FacetCountDTO> regions = new ArrayList<>();
+}
@@ -0,0 +1,50 @@
+package com.ats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of re-scoring a job's applicants")
+public class JobRescoreRunDTO {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        SUPERSEDED
+    }
+
+    @Schema(description = "Run ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Job ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "Run status", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "Number of analyzed applications to re-score", example = "2400")
+    private int total;
+
+    @Schema(description = "Number of applications re-scored so far", example = "1500")
+    private int processed;
+
+    @Schema(description = "Why the run failed, if it did")
+    private String lastError;
+
+    @Schema(description = "When the run was requested")
+    private OffsetDateTime createdAt;
+
+    @Schema(description = "When the run started")
+    private OffsetDateTime startedAt;
+
+    @Schema(description = "When the run finished")
+    private OffsetDateTime finishedAt;
+}
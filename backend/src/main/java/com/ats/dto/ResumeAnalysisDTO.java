@@ -1,5 +1,6 @@
 package com.ats.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -18,6 +19,9 @@ import java.util.List;
 @Schema(description = "AI-extracted resume analysis data")
 public class ResumeAnalysisDTO {
 
+    /** Model name recorded on the placeholder analysis stored when a resume could not be analyzed */
+    public static final String ERROR_MODEL = "error";
+
     @Schema(description = "Total years of work experience (excluding overlaps)", example = "5.5")
     @JsonProperty("total_experience_years")
     private BigDecimal totalExperienceYears;
@@ -54,6 +58,14 @@ public class ResumeAnalysisDTO {
     @JsonProperty("analysis_metadata")
     private AnalysisMetadataDTO analysisMetadata;
 
+    /**
+     * Whether this is the placeholder for a resume that could not be analyzed
+     */
+    @JsonIgnore
+    public boolean isFailed() {
+        return analysisMetadata != null && ERROR_MODEL.equals(analysisMetadata.getAiModelUsed());
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
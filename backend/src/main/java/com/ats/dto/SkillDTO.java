@@ -0,0 +1,41 @@
+package com.ats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Skill taxonomy entry Data Transfer Object")
+public class SkillDTO {
+
+    /**
+     * Validation group for creating a skill, where the name is required; an update may leave it out
+     */
+    public interface OnCreate {
+    }
+
+    @Schema(description = "Skill ID - auto-generated", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @Schema(description = "Canonical skill name; required on create, kept as is when left out of an update", example = "Kubernetes")
+    @NotBlank(message = "Skill name cannot be blank", groups = OnCreate.class)
+    @Pattern(regexp = "(?s).*\\S.*", message = "Skill name cannot be blank")
+    @Size(max = 100, message = "Skill name cannot exceed 100 characters")
+    private String name;
+
+    @Schema(description = "Other names matched as this skill", example = "[\"K8s\"]")
+    private List<@NotBlank(message = "Synonym cannot be blank") @Size(max = 100, message = "Synonym cannot exceed 100 characters") String> synonyms;
+
+    @Schema(description = "Whether the skill is matched in resumes and job descriptions", example = "true")
+    private Boolean isActive;
+}
@@ -0,0 +1,27 @@
+package com.ats.event;
+
+/**
+ * Published when a job is created, updated, changes status or is deleted.
+ * Listeners that react after commit see the job's committed state.
+ */
+public class JobChangedEvent {
+
+    private final Long jobId;
+    private final String region;
+
+    public JobChangedEvent(Long jobId, String region) {
+        this.jobId = jobId;
+        this.region = region;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    /**
+     * @return the job's region, which does not change after creation
+     */
+    public String getRegion() {
+        return region;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ats.event;
+
+/**
+ * Published when a job's description or skills change, which is what applicants are scored against.
+ * Listeners that react after commit see the job's committed state.
+ */
+public class JobScoringCriteriaChangedEvent {
+
+    private final Long jobId;
+
+    public JobScoringCriteriaChangedEvent(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+}
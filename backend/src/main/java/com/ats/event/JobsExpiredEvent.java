@@ -0,0 +1,22 @@
+package com.ats.event;
+
+import java.util.List;
+
+/**
+ * Published after the expiration scheduler moves jobs to EXPIRED
+ */
+public class JobsExpiredEvent {
+
+    private final List<Long> jobIds;
+
+    public JobsExpiredEvent(List<Long> jobIds) {
+        this.jobIds = List.copyOf(jobIds);
+    }
+
+    /**
+     * @return the ids of the jobs that were expired, in no particular order
+     */
+    public List<Long> getJobIds() {
+        return jobIds;
+    }
+}
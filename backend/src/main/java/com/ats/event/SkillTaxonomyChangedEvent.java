@@ -0,0 +1,18 @@
+package com.ats.event;
+
+/**
+ * Published when a skill or its synonyms are created, changed or deactivated.
+ * Listeners that react after commit see the taxonomy's committed state.
+ */
+public class SkillTaxonomyChangedEvent {
+
+    private final Long skillId;
+
+    public SkillTaxonomyChangedEvent(Long skillId) {
+        this.skillId = skillId;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ats.mapper;
+
+import com.ats.dto.JobCustomQuestionDTO;
+import com.ats.dto.JobDTO;
+import com.ats.model.Job;
+import com.ats.model.JobCategory;
+import com.ats.model.JobCustomQuestion;
+import com.ats.util.ModelMapperUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maps between {@link Job} and {@link JobDTO}.
+ * The direct strategy produces the same output as ModelMapper without
+ * reflection; set app.mapping.job=MODEL_MAPPER to switch back.
+ */
+@Component
+public class JobMapper {
+
+    private final ModelMapperUtil modelMapper;
+    private final MappingStrategy strategy;
+
+    @Autowired
+    public JobMapper(ModelMapperUtil modelMapper,
+                     @Value("${app.mapping.job:DIRECT}") MappingStrategy strategy) {
+        this.modelMapper = modelMapper;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Map a job to its DTO, including the category id, name and color
+     */
+    public JobDTO toDTO(Job job) {
+        if (strategy == MappingStrategy.MODEL_MAPPER) {
+            return modelMapper.map(job, JobDTO.class);
+        }
+
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setTitle(job.getTitle());
+        dto.setDepartment(job.getDepartment());
+        dto.setDescription(job.getDescription());
+        dto.setLocation(job.getLocation());
+        dto.setEmploymentType(job.getEmploymentType());
+        dto.setSkills(job.getSkills() != null ? new ArrayList<>(job.getSkills()) : null);
+        dto.setPostedDate(job.getPostedDate());
+        dto.setWorkSetting(job.getWorkSetting());
+        dto.setJobStatus(job.getJobStatus());
+        dto.setSalaryRange(job.getSalaryRange());
+        dto.setRegion(job.getRegion());
+        dto.setExpirationDate(job.getExpirationDate());
+
+        JobCategory category = job.getCategory();
+        if (category != null) {
+            dto.setCategoryId(category.getId());
+            dto.setCategoryName(category.getName());
+            dto.setCategoryColor(category.getColor());
+        }
+        return dto;
+    }
+
+    /**
+     * Map a job and its custom questions to the detail DTO
+     */
+    public JobDTO toDetailDTO(Job job, List<JobCustomQuestion> customQuestions) {
+        JobDTO dto = toDTO(job);
+        dto.setCustomQuestions(customQuestions.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    /**
+     * Map a custom question to its DTO
+     */
+    public JobCustomQuestionDTO toDTO(JobCustomQuestion question) {
+        if (strategy == MappingStrategy.MODEL_MAPPER) {
+            return modelMapper.map(question, JobCustomQuestionDTO.class);
+        }
+
+        JobCustomQuestionDTO dto = new JobCustomQuestionDTO();
+        dto.setId(question.getId());
+        dto.setJobId(question.getJob() != null ? question.getJob().getId() : null);
+        dto.setQuestionText(question.getQuestionText());
+        dto.setQuestionType(question.getQuestionType());
+        dto.setOptions(question.getOptions() != null ? new ArrayList<>(question.getOptions()) : null);
+        dto.setRequired(question.getIsRequired());
+        return dto;
+    }
+
+    /**
+     * Map a DTO to a new, unsaved job. The category is not mapped: callers
+     * resolve it from categoryId so a detached category is never attached.
+     */
+    public Job toEntity(JobDTO dto) {
+        if (strategy == MappingStrategy.MODEL_MAPPER) {
+            Job job = modelMapper.map(dto, Job.class);
+            job.setCategory(null);
+            return job;
+        }
+
+        Job job = new Job();
+        job.setId(dto.getId());
+        job.setTitle(dto.getTitle());
+        job.setDepartment(dto.getDepartment());
+        job.setDescription(dto.getDescription());
+        job.setLocation(dto.getLocation());
+        job.setEmploymentType(dto.getEmploymentType());
+        job.setSkills(dto.getSkills() != null ? new ArrayList<>(dto.getSkills()) : null);
+        job.setPostedDate(dto.getPostedDate());
+        job.setWorkSetting(dto.getWorkSetting());
+        job.setJobStatus(dto.getJobStatus());
+        job.setSalaryRange(dto.getSalaryRange());
+        job.setRegion(dto.getRegion());
+        job.setExpirationDate(dto.getExpirationDate());
+        return job;
+    }
+}
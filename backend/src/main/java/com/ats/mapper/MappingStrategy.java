@@ -0,0 +1,11 @@
+package com.ats.mapper;
+
+/**
+ * How a DTO mapper converts between entities and DTOs
+ */
+public enum MappingStrategy {
+    /** Hand-written field-by-field copy, no reflection */
+    DIRECT,
+    /** Reflection-based ModelMapper, kept as a fallback and for comparison */
+    MODEL_MAPPER
+}
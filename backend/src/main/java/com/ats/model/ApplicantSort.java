@@ -0,0 +1,11 @@
+package com.ats.model;
+
+/**
+ * Orderings available for a job's applicant list, ties broken by newest application
+ */
+public enum ApplicantSort {
+    /** Newest application first */
+    DATE,
+    /** Highest overall resume score first, unscored applications last */
+    SCORE
+}
@@ -11,10 +11,13 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "applications")
+// Only changed columns are written, so a save does not put back a resume score re-scored in the meantime
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -64,6 +67,10 @@ public class Application {
     @Column(name = "updated_at", nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ApplicationAnswer> answers = new ArrayList<>();
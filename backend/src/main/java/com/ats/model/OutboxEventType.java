@@ -0,0 +1,12 @@
+package com.ats.model;
+
+/**
+ * Side effects recorded in the transactional outbox and dispatched after commit
+ */
+public enum OutboxEventType {
+    APPLICATION_RECEIVED_EMAIL,
+    APPLICATION_REVIEWED_EMAIL,
+    APPLICATION_SHORTLISTED_EMAIL,
+    // No longer enqueued; kept so events recorded by older replicas are handed to the resume analysis queue
+    RESUME_ANALYSIS
+}
@@ -0,0 +1,22 @@
+package com.ats.model;
+
+/**
+ * Effective regional view of data for a request, derived from the caller's
+ * admin region, EU view-mode switch and the ist.com subdomain rule
+ */
+public enum RegionView {
+    /**
+     * Only EU data is visible
+     */
+    EU,
+
+    /**
+     * Only non-EU data is visible (region is NULL or anything other than EU)
+     */
+    NON_EU,
+
+    /**
+     * No regional restriction applies
+     */
+    UNRESTRICTED
+}
@@ -0,0 +1,22 @@
+package com.ats.model;
+
+/**
+ * Resume scores extracted from the analysis JSON into generated, indexed columns of applications
+ */
+public enum ResumeScore {
+    OVERALL("overall_score"),
+    JOB_MATCH("job_match_score"),
+    SKILLS_MATCH("skills_match_score"),
+    EXPERIENCE("experience_score"),
+    EXPERIENCE_YEARS("total_experience_years");
+
+    private final String column;
+
+    ResumeScore(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ats.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "skills")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Skill extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    @NotBlank(message = "Skill name cannot be blank")
+    @Size(max = 100, message = "Skill name cannot exceed 100 characters")
+    private String name;
+
+    // Alternative spellings and abbreviations matched as this skill, e.g. "k8s" for Kubernetes
+    @ElementCollection
+    @CollectionTable(name = "skill_synonyms", joinColumns = @JoinColumn(name = "skill_id"))
+    @Column(name = "synonym", nullable = false, length = 100)
+    private Set<String> synonyms = new LinkedHashSet<>();
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +20,14 @@ public interface ApplicationAnswerRepository extends JpaRepository<ApplicationAn
      */
     List<ApplicationAnswer> findByApplicationId(Long applicationId);
     
+    /**
+     * Find the answers of many applications in one query, for mapping a page of applications
+     * 
+     * @param applicationIds the application IDs
+     * @return their answers, ordered by ID
+     */
+    List<ApplicationAnswer> findByApplicationIdInOrderByIdAsc(Collection<Long> applicationIds);
+    
     /**
      * Find answers for a specific application and question
      * 
@@ -60,4 +69,13 @@ public interface ApplicationAnswerRepository extends JpaRepository<ApplicationAn
      */
     @Query("SELECT aa.answer as answer, COUNT(aa) as count FROM ApplicationAnswer aa WHERE aa.questionId = :questionId GROUP BY aa.answer")
     List<Object[]> getAnswerStatsByQuestionId(@Param("questionId") Long questionId);
+
+    /**
+     * Find which of the given questions have at least one answer
+     * 
+     * @param questionIds the question IDs to check
+     * @return the IDs of answered questions
+     */
+    @Query("SELECT DISTINCT aa.questionId FROM ApplicationAnswer aa WHERE aa.questionId IN :questionIds")
+    List<Long> findAnsweredQuestionIds(@Param("questionIds") Collection<Long> questionIds);
 }
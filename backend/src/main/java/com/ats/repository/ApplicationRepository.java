@@ -9,11 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
 
     /**
      * Find all applications by job ID
@@ -62,6 +63,15 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     Optional<Application> findByJobIdAndCandidateId(Long jobId, Long candidateId);
 
+    /**
+     * Check whether a candidate has any application for a job
+     * 
+     * @param jobId the job ID
+     * @param candidateId the candidate ID
+     * @return true if at least one application exists
+     */
+    boolean existsByJobIdAndCandidateId(Long jobId, Long candidateId);
+
     /**
      * Find all applications by status
      * 
@@ -78,6 +88,15 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT a FROM Application a JOIN FETCH a.candidate JOIN FETCH a.job")
     List<Application> findAllWithCandidateAndJob();
 
+    /**
+     * Find an application by ID with candidate and job details
+     * 
+     * @param id the application ID
+     * @return the application if found
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.candidate JOIN FETCH a.job WHERE a.id = :id")
+    Optional<Application> findByIdWithCandidateAndJob(@Param("id") Long id);
+
     /**
      * Find applications by job ID with candidate and job details
      * 
@@ -107,30 +126,16 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     List<Application> findByJobIdAndStatusWithCandidateAndJob(@Param("jobId") Long jobId, @Param("status") ApplicationStatus status);
     
     /**
-     * Count the number of applications for a job
+     * Get the incrementally maintained application counts per status for many jobs
+     * Reads job_application_stats (V50) rather than grouping applications
      * 
-     * @param jobId the job ID
-     * @return the count of applications
-     */
-    long countByJobId(Long jobId);
-    
-    /**
-     * Count the number of applications by status for a job
-     * 
-     * @param jobId the job ID
-     * @param status the application status
-     * @return the count of applications
-     */
-    long countByJobIdAndStatus(Long jobId, ApplicationStatus status);
-    
-    /**
-     * Get application statistics grouped by status for a specific job
-     * 
-     * @param jobId the job ID
-     * @return list of count by status
+     * @param jobIds the job IDs
+     * @return list of [job ID, status name, count]; statuses without applications may be missing
      */
-    @Query("SELECT a.status as status, COUNT(a) as count FROM Application a WHERE a.job.id = :jobId GROUP BY a.status")
-    List<Object[]> getApplicationStatsByJobId(@Param("jobId") Long jobId);
+    @Query(value = "SELECT s.job_id, s.status, s.application_count FROM job_application_stats s " +
+                   "WHERE s.job_id IN (:jobIds) AND s.application_count > 0",
+           nativeQuery = true)
+    List<Object[]> findStatsByJobIds(@Param("jobIds") Collection<Long> jobIds);
     
     /**
      * Find applications by job ID and shortlisting status
@@ -151,21 +156,24 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     
     /**
      * Find applications by job ID with search functionality
-     * Searches across candidate name, email, current position, and current company
+     * Searches across candidate name, email, current position, and current company through the
+     * trigram-indexed search_text column, matching substrings and near-miss spellings of words,
+     * best matches first. The pageable's sort is ignored in favour of the similarity ranking.
      * 
      * @param jobId the job ID
-     * @param searchTerm the search term (case-insensitive)
+     * @param searchTerm the lower-cased search term, matched by word similarity
+     * @param pattern the lower-cased search term with LIKE wildcards escaped, matched as a substring
      * @param pageable pagination information
      * @return a page of applications matching the search criteria
      */
-    @Query("SELECT a FROM Application a " +
-           "JOIN FETCH a.candidate c " +
-           "WHERE a.job.id = :jobId " +
-           "AND (LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(a.currentPosition) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(a.currentCompany) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    Page<Application> findByJobIdWithSearch(@Param("jobId") Long jobId, @Param("searchTerm") String searchTerm, Pageable pageable);
+    @Query(value = "SELECT a.* FROM applications a " +
+                   "WHERE a.job_id = :jobId " +
+                   "AND (a.search_text LIKE '%' || :pattern || '%' OR :searchTerm <% a.search_text) " +
+                   "ORDER BY word_similarity(:searchTerm, a.search_text) DESC, a.id DESC",
+           countQuery = "SELECT COUNT(*) FROM applications a " +
+                        "WHERE a.job_id = :jobId " +
+                        "AND (a.search_text LIKE '%' || :pattern || '%' OR :searchTerm <% a.search_text)",
+           nativeQuery = true)
+    Page<Application> findByJobIdWithSearch(@Param("jobId") Long jobId, @Param("searchTerm") String searchTerm,
+                                            @Param("pattern") String pattern, Pageable pageable);
 }
@@ -0,0 +1,70 @@
+package com.ats.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.ats.dto.ApplicantCursor;
+import com.ats.dto.ApplicantSummaryDTO;
+import com.ats.dto.BulkStatusUpdateResultDTO;
+import com.ats.dto.CandidateApplicationSummaryDTO;
+import com.ats.model.ApplicantSort;
+import com.ats.model.ApplicationStatus;
+import com.ats.model.ResumeScore;
+
+/**
+ * Custom query fragment for {@link ApplicationRepository}
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Find a page of a job's applicants as flat summary rows using keyset pagination.
+     * Candidate, status, shortlist flag and overall score come back in a single statement,
+     * and each page costs the same however deep into the list it is.
+     *
+     * @param jobId the job whose applicants to list
+     * @param status the status to filter by, or null for all
+     * @param sort the ordering, newest first or best score first
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of rows to return
+     * @return the applicants after the cursor, at most {@code limit} of them
+     */
+    List<ApplicantSummaryDTO> findApplicantPage(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                                ApplicantCursor after, int limit);
+
+    /**
+     * Find the best-scoring applicants of a job by one of the generated score columns.
+     * Unscored applicants are left out.
+     *
+     * @param jobId the job whose applicants to rank
+     * @param status the status to filter by, or null for all
+     * @param score the score to rank by
+     * @param limit how many applicants to return
+     * @return at most {@code limit} applicants, best first
+     */
+    List<ApplicantSummaryDTO> findTopApplicants(Long jobId, ApplicationStatus status, ResumeScore score, int limit);
+
+    /**
+     * Find a page of a candidate's own applications, newest first, with the job title,
+     * department and region and the next scheduled interview joined in.
+     * Resume analysis and answers are never read.
+     *
+     * @param candidateId the candidate whose applications to list
+     * @param pageable the page to return; its sort is ignored
+     * @return the page of application summaries with its total count
+     */
+    Page<CandidateApplicationSummaryDTO> findCandidateApplications(Long candidateId, Pageable pageable);
+
+    /**
+     * Move applications to a status in one set-based UPDATE. An application is only moved
+     * if it is not already in that status and, when an expected version is given, its
+     * version still matches; moved applications get their version bumped.
+     *
+     * @param status the target status
+     * @param expectedVersions expected version per application id, null values skip the check
+     * @return one outcome per requested id
+     */
+    List<BulkStatusUpdateResultDTO.ItemResult> updateStatuses(ApplicationStatus status, Map<Long, Long> expectedVersions);
+}
@@ -0,0 +1,212 @@
+package com.ats.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.ats.dto.ApplicantCursor;
+import com.ats.dto.ApplicantSummaryDTO;
+import com.ats.dto.BulkStatusUpdateResultDTO;
+import com.ats.dto.CandidateApplicationSummaryDTO;
+import com.ats.model.ApplicantSort;
+import com.ats.model.ApplicationStatus;
+import com.ats.model.ResumeScore;
+
+/**
+ * Implementation of {@link ApplicationRepositoryCustom}, picked up by Spring Data through the Impl suffix
+ */
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    // Scores are generated columns (V47), so no row's resume_analysis JSON is ever read or parsed
+    private static final String APPLICANT_SELECT =
+        "SELECT a.id, a.candidate_id, u.first_name, u.last_name, u.email, a.status, a.is_shortlisted, " +
+        "       a.overall_score, a.job_match_score, a.skills_match_score, a.experience_score, " +
+        "       a.total_experience_years, a.created_at, a.version " +
+        "FROM applications a JOIN users u ON u.id = a.candidate_id " +
+        "WHERE %s " +
+        "ORDER BY %s " +
+        "LIMIT :limit";
+
+    // The window count rides along with the page so the dashboard needs no separate COUNT query
+    private static final String CANDIDATE_APPLICATIONS_SQL =
+        "SELECT a.id, a.job_id, j.title, j.department, j.region, a.status, a.created_at, a.updated_at, " +
+        "       (SELECT MIN(i.scheduled_at) FROM interviews i " +
+        "        WHERE i.application_id = a.id AND i.scheduled_at >= LOCALTIMESTAMP " +
+        "          AND i.status <> 'COMPLETED') AS next_interview_at, " +
+        "       COUNT(*) OVER () AS total_count " +
+        "FROM applications a JOIN jobs j ON j.id = a.job_id " +
+        "WHERE a.candidate_id = :candidateId " +
+        "ORDER BY a.created_at DESC, a.id DESC " +
+        "LIMIT :limit OFFSET :offset";
+
+    private static final String CANDIDATE_APPLICATIONS_COUNT_SQL =
+        "SELECT COUNT(*) FROM applications WHERE candidate_id = :candidateId";
+
+    // One statement: the CTE applies the transition, the outer query reports every requested id.
+    // The outer read of applications sees the pre-update snapshot, which is what the skipped rows still hold.
+    private static final String BULK_STATUS_SQL =
+        "WITH req AS (SELECT * FROM unnest(?::bigint[], ?::bigint[]) AS t(id, version)), " +
+        "upd AS (" +
+        "  UPDATE applications a SET status = ?, updated_at = CURRENT_TIMESTAMP, version = a.version + 1, " +
+        "    is_shortlisted = CASE WHEN ? THEN TRUE ELSE a.is_shortlisted END, " +
+        "    shortlisted_at = CASE WHEN ? THEN CURRENT_TIMESTAMP ELSE a.shortlisted_at END " +
+        "  FROM req " +
+        "  WHERE a.id = req.id AND a.status <> ? AND (req.version IS NULL OR a.version = req.version) " +
+        "  RETURNING a.id, a.version" +
+        ") " +
+        "SELECT req.id, " +
+        "  CASE WHEN upd.id IS NOT NULL THEN 'UPDATED' " +
+        "       WHEN a.id IS NULL THEN 'NOT_FOUND' " +
+        "       WHEN a.status = ? THEN 'UNCHANGED' " +
+        "       ELSE 'VERSION_CONFLICT' END AS outcome, " +
+        "  COALESCE(upd.version, a.version) AS version " +
+        "FROM req LEFT JOIN upd ON upd.id = req.id LEFT JOIN applications a ON a.id = req.id";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ApplicantSummaryDTO> findApplicantPage(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                                       ApplicantCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("limit", limit);
+
+        conditions.add("a.job_id = :jobId");
+        if (status != null) {
+            conditions.add("a.status = :status");
+            params.addValue("status", status.name());
+        }
+        if (after != null) {
+            conditions.add(afterCursor(sort, after, params));
+        }
+
+        String orderBy = sort == ApplicantSort.SCORE
+                ? "a.overall_score DESC NULLS LAST, a.id DESC"
+                : "a.created_at DESC, a.id DESC";
+
+        String sql = String.format(APPLICANT_SELECT, String.join(" AND ", conditions), orderBy);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> toSummary(rs));
+    }
+
+    @Override
+    public List<ApplicantSummaryDTO> findTopApplicants(Long jobId, ApplicationStatus status, ResumeScore score, int limit) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("limit", limit);
+
+        String column = "a." + score.getColumn();
+        conditions.add("a.job_id = :jobId");
+        conditions.add(column + " IS NOT NULL");
+        if (status != null) {
+            conditions.add("a.status = :status");
+            params.addValue("status", status.name());
+        }
+
+        String sql = String.format(APPLICANT_SELECT, String.join(" AND ", conditions), column + " DESC, a.id DESC");
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> toSummary(rs));
+    }
+
+    @Override
+    public List<BulkStatusUpdateResultDTO.ItemResult> updateStatuses(ApplicationStatus status, Map<Long, Long> expectedVersions) {
+        Long[] ids = expectedVersions.keySet().toArray(new Long[0]);
+        Long[] versions = expectedVersions.values().toArray(new Long[0]);
+        boolean shortlist = status == ApplicationStatus.SHORTLISTED;
+
+        return jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(BULK_STATUS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", versions));
+            ps.setString(3, status.name());
+            ps.setBoolean(4, shortlist);
+            ps.setBoolean(5, shortlist);
+            ps.setString(6, status.name());
+            ps.setString(7, status.name());
+            return ps;
+        }, (rs, rowNum) -> new BulkStatusUpdateResultDTO.ItemResult(
+                rs.getLong("id"),
+                BulkStatusUpdateResultDTO.Outcome.valueOf(rs.getString("outcome")),
+                rs.getObject("version", Long.class)));
+    }
+
+    @Override
+    public Page<CandidateApplicationSummaryDTO> findCandidateApplications(Long candidateId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("candidateId", candidateId)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        long[] total = {0};
+        List<CandidateApplicationSummaryDTO> rows = jdbcTemplate.query(CANDIDATE_APPLICATIONS_SQL, params, (rs, rowNum) -> {
+            total[0] = rs.getLong("total_count");
+            return new CandidateApplicationSummaryDTO(
+                    rs.getLong("id"),
+                    rs.getLong("job_id"),
+                    rs.getString("title"),
+                    rs.getString("department"),
+                    rs.getString("region"),
+                    ApplicationStatus.valueOf(rs.getString("status")),
+                    rs.getObject("created_at", OffsetDateTime.class),
+                    rs.getObject("updated_at", OffsetDateTime.class),
+                    rs.getObject("next_interview_at", LocalDateTime.class));
+        });
+
+        // Past the last page there is no row to carry the count
+        if (rows.isEmpty() && pageable.getOffset() > 0) {
+            total[0] = jdbcTemplate.queryForObject(CANDIDATE_APPLICATIONS_COUNT_SQL, params, Long.class);
+        }
+        return new PageImpl<>(rows, pageable, total[0]);
+    }
+
+    /**
+     * Build the keyset condition for rows strictly after the cursor in the given ordering
+     */
+    private static String afterCursor(ApplicantSort sort, ApplicantCursor after, MapSqlParameterSource params) {
+        params.addValue("afterId", after.getId());
+
+        if (sort == ApplicantSort.DATE) {
+            params.addValue("afterCreatedAt", after.getCreatedAt());
+            return "(a.created_at, a.id) < (:afterCreatedAt, :afterId)";
+        }
+
+        if (after.getScore() == null) {
+            // Already inside the unscored tail, which only has lower ids left
+            return "(a.overall_score IS NULL AND a.id < :afterId)";
+        }
+
+        params.addValue("afterScore", after.getScore());
+        return "((a.overall_score, a.id) < (:afterScore, :afterId) OR a.overall_score IS NULL)";
+    }
+
+    private static ApplicantSummaryDTO toSummary(ResultSet rs) throws SQLException {
+        return new ApplicantSummaryDTO(
+                rs.getLong("id"),
+                rs.getLong("candidate_id"),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getString("email"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getBoolean("is_shortlisted"),
+                rs.getObject("overall_score", Integer.class),
+                rs.getObject("job_match_score", Integer.class),
+                rs.getObject("skills_match_score", Integer.class),
+                rs.getObject("experience_score", Integer.class),
+                rs.getBigDecimal("total_experience_years"),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getLong("version"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ats.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the job full-text search functions used by {@link JobSpecifications}, so the
+ * text match and its ranking run in the same SQL statement as the other filters.
+ * Picked up by Hibernate through META-INF/services.
+ */
+public class FullTextSearchFunctions implements FunctionContributor {
+
+    /** job_text_matches(job id, term): whether the job's search_vector matches a web search term */
+    public static final String MATCHES = "job_text_matches";
+
+    /** job_text_rank(job id, term): the job's relevance for a web search term */
+    public static final String RANK = "job_text_rank";
+
+    // The match is a semi-join against the GIN-indexed search_vector; the rank is a primary key lookup per job
+    private static final String MATCHES_PATTERN =
+        "(?1 in (select fts.id from jobs fts " +
+        "where fts.search_vector @@ websearch_to_tsquery('english', ?2)))";
+
+    private static final String RANK_PATTERN =
+        "(select cast(ts_rank_cd(fts.search_vector, websearch_to_tsquery('english', ?2)) as double precision) " +
+        "from jobs fts where fts.id = ?1)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry()
+                .registerPattern(MATCHES, MATCHES_PATTERN, types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry()
+                .registerPattern(RANK, RANK_PATTERN, types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -18,6 +18,14 @@ public interface JobCustomQuestionRepository extends JpaRepository<JobCustomQues
      */
     List<JobCustomQuestion> findByJobId(Long jobId);
     
+    /**
+     * Find all custom questions for a specific job in creation order
+     * 
+     * @param jobId The ID of the job
+     * @return List of custom questions for the job, ordered by ID
+     */
+    List<JobCustomQuestion> findByJobIdOrderByIdAsc(Long jobId);
+    
     /**
      * Check if a custom question exists for a specific job
      * 
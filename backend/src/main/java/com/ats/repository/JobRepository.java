@@ -4,7 +4,7 @@ import com.ats.model.Job;
 import com.ats.model.JobStatus;
 import com.ats.model.WorkSetting;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,7 +14,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
     
     // Find jobs by job status
     List<Job> findByJobStatusIn(List<JobStatus> statuses);
@@ -22,6 +22,13 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     
     // Search jobs by title or description
     List<Job> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String keyword, String keyword2);
+
+    // Full-text relevance of a bounded set of jobs (e.g. one page), for jobs already filtered by the term.
+    // Each row is [job id, relevance score].
+    @Query(value = "SELECT j.id, CAST(ts_rank_cd(j.search_vector, websearch_to_tsquery('english', :term)) AS double precision) " +
+                   "FROM jobs j WHERE j.id IN (:ids)",
+           nativeQuery = true)
+    List<Object[]> rankJobIds(@Param("term") String term, @Param("ids") Collection<Long> ids);
     
     // Find jobs by work setting
     List<Job> findByWorkSetting(WorkSetting workSetting);
@@ -34,9 +41,12 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     
     // Find jobs by salary range
     
-    // Find jobs that should be expired (expiration date is today or in the past, and status is PUBLISHED or REOPENED)
-    @Query("SELECT j FROM Job j WHERE j.expirationDate IS NOT NULL " +
-           "AND j.expirationDate <= :today " +
-           "AND j.jobStatus IN (com.ats.model.JobStatus.PUBLISHED, com.ats.model.JobStatus.REOPENED)")
-    List<Job> findJobsToExpire(@Param("today") LocalDate today);
+    // Load a job with its category and custom questions in one round trip.
+    // Each row is [job, custom question or null], ordered by question id; empty if the job does not exist.
+    @Query("SELECT j, q FROM Job j " +
+           "LEFT JOIN FETCH j.category " +
+           "LEFT JOIN JobCustomQuestion q ON q.job = j " +
+           "WHERE j.id = :id " +
+           "ORDER BY q.id")
+    List<Object[]> findDetailRowsById(@Param("id") Long id);
 }
@@ -0,0 +1,56 @@
+package com.ats.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ats.dto.JobCursor;
+import com.ats.dto.JobFacetsDTO;
+import com.ats.model.Job;
+import com.ats.model.JobStatus;
+import com.ats.model.RegionView;
+import com.ats.model.WorkSetting;
+
+/**
+ * Custom query fragment for {@link JobRepository}
+ */
+public interface JobRepositoryCustom {
+
+    /**
+     * Find jobs matching a specification using keyset pagination.
+     * Results are ordered by posted date then id, both descending, so the
+     * order is stable across pages even while jobs are being published.
+     *
+     * @param spec the filters to apply, may be null
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of jobs to return
+     * @return the jobs after the cursor, at most {@code limit} of them
+     */
+    List<Job> findPageAfter(Specification<Job> spec, JobCursor after, int limit);
+
+    /**
+     * Find jobs matching a specification and a full-text search term, best matches first.
+     * The match and its ranking run in the same query as the other filters.
+     *
+     * @param spec the other filters to apply, may be null
+     * @param term the search term, in web search syntax
+     * @return rows of [job, relevance score]
+     */
+    List<Object[]> findAllByText(Specification<Job> spec, String term);
+
+    /**
+     * Count jobs per status, work setting, department, category and region
+     * in a single GROUPING SETS query. The status and work setting counts leave out
+     * their own filter, so selecting a value does not hide the counts of the others;
+     * the total and the remaining facets apply every filter.
+     *
+     * @param view the region view to restrict to
+     * @param statuses statuses to filter by, null or empty for all
+     * @param workSettings work settings to filter by, null or empty for all
+     * @param text full-text search term in web search syntax, null for no text filter
+     * @return the total and the per-value counts of each facet, largest first
+     */
+    JobFacetsDTO countFacets(RegionView view, Collection<JobStatus> statuses,
+                             Collection<WorkSetting> workSettings, String text);
+}
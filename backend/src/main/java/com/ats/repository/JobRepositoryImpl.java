@@ -0,0 +1,197 @@
+package com.ats.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ats.dto.FacetCountDTO;
+import com.ats.dto.JobCursor;
+import com.ats.dto.JobFacetsDTO;
+import com.ats.model.Job;
+import com.ats.model.JobStatus;
+import com.ats.model.RegionView;
+import com.ats.model.WorkSetting;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import static com.ats.repository.JobSpecifications.matchesText;
+import static com.ats.repository.JobSpecifications.textRank;
+
+/**
+ * Implementation of {@link JobRepositoryCustom}, picked up by Spring Data through the Impl suffix
+ */
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    // Each row carries a GROUPING() flag per facet column; 0 marks the column the row is grouped by.
+    // Three counts per row: without the status filter, without the work setting filter, and with both,
+    // so a facet's own filter does not hide the counts of its other values.
+    // Format arguments: the shared conditions, the status filter, the work setting filter.
+    private static final String FACETS_SQL =
+        "SELECT GROUPING(j.status), GROUPING(j.work_setting), GROUPING(j.department), " +
+        "       GROUPING(j.category_id), GROUPING(j.region), " +
+        "       j.status, j.work_setting, j.department, j.category_id, MAX(c.name), j.region, " +
+        "       COUNT(*) FILTER (WHERE %3$s), COUNT(*) FILTER (WHERE %2$s), COUNT(*) FILTER (WHERE %2$s AND %3$s) " +
+        "FROM jobs j LEFT JOIN job_categories c ON c.id = j.category_id " +
+        "WHERE %1$s AND (%2$s OR %3$s) " +
+        "GROUP BY GROUPING SETS ((j.status), (j.work_setting), (j.department), (j.category_id), (j.region), ())";
+
+    private static final Comparator<FacetCountDTO> BY_COUNT_DESC =
+        Comparator.comparingLong(FacetCountDTO::getCount).reversed();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> findPageAfter(Specification<Job> spec, JobCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+        if (after != null) {
+            predicates.add(afterCursor(cb, root, after));
+        }
+
+        // PostgreSQL sorts NULLs first for DESC, matching idx_jobs_posted_date_id
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(root.get("postedDate")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Object[]> findAllByText(Specification<Job> spec, String term) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Job> root = query.from(Job.class);
+        Expression<Double> rank = textRank(root, cb, term);
+
+        Predicate filter = Specification.where(spec).and(matchesText(term)).toPredicate(root, query, cb);
+        query.multiselect(root, rank)
+                .where(filter)
+                .orderBy(cb.desc(rank), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public JobFacetsDTO countFacets(RegionView view, Collection<JobStatus> statuses,
+                                   Collection<WorkSetting> workSettings, String text) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        conditions.add("TRUE");
+        if (view == RegionView.EU) {
+            conditions.add("j.region = 'EU'");
+        } else if (view == RegionView.NON_EU) {
+            conditions.add("(j.region IS NULL OR j.region <> 'EU')");
+        }
+        if (text != null && !text.isBlank()) {
+            conditions.add("j.search_vector @@ websearch_to_tsquery('english', :text)");
+            params.put("text", text.trim());
+        }
+
+        String statusFilter = "TRUE";
+        if (statuses != null && !statuses.isEmpty()) {
+            statusFilter = "j.status IN (:statuses)";
+            params.put("statuses", statuses.stream().map(Enum::name).collect(Collectors.toList()));
+        }
+        String workSettingFilter = "TRUE";
+        if (workSettings != null && !workSettings.isEmpty()) {
+            workSettingFilter = "j.work_setting IN (:workSettings)";
+            params.put("workSettings", workSettings.stream().map(Enum::name).collect(Collectors.toList()));
+        }
+
+        Query query = entityManager.createNativeQuery(
+            String.format(FACETS_SQL, String.join(" AND ", conditions), statusFilter, workSettingFilter));
+        params.forEach(query::setParameter);
+
+        JobFacetsDTO facets = new JobFacetsDTO();
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            long withoutStatusFilter = ((Number) columns[11]).longValue();
+            long withoutWorkSettingFilter = ((Number) columns[12]).longValue();
+            long count = ((Number) columns[13]).longValue();
+
+            if (isGroupedBy(columns[0])) {
+                addFacetCount(facets.getStatuses(), columns[5], null, withoutStatusFilter);
+            } else if (isGroupedBy(columns[1])) {
+                addFacetCount(facets.getWorkSettings(), columns[6], null, withoutWorkSettingFilter);
+            } else if (isGroupedBy(columns[2])) {
+                addFacetCount(facets.getDepartments(), columns[7], null, count);
+            } else if (isGroupedBy(columns[3])) {
+                addFacetCount(facets.getCategories(), columns[8], columns[9], count);
+            } else if (isGroupedBy(columns[4])) {
+                addFacetCount(facets.getRegions(), columns[10], null, count);
+            } else {
+                facets.setTotal(count);
+            }
+        }
+
+        facets.getStatuses().sort(BY_COUNT_DESC);
+        facets.getWorkSettings().sort(BY_COUNT_DESC);
+        facets.getDepartments().sort(BY_COUNT_DESC);
+        facets.getCategories().sort(BY_COUNT_DESC);
+        facets.getRegions().sort(BY_COUNT_DESC);
+        return facets;
+    }
+
+    private static boolean isGroupedBy(Object groupingFlag) {
+        return ((Number) groupingFlag).intValue() == 0;
+    }
+
+    /**
+     * Add a facet value's count, skipping values whose jobs are all filtered out by the other facets
+     */
+    private static void addFacetCount(List<FacetCountDTO> counts, Object value, Object label, long count) {
+        if (count == 0) {
+            return;
+        }
+        String stringValue = value != null ? value.toString() : null;
+        counts.add(new FacetCountDTO(stringValue, label != null ? label.toString() : stringValue, count));
+    }
+
+    /**
+     * Build the keyset predicate for rows strictly after the cursor in (posted_date DESC NULLS FIRST, id DESC) order
+     */
+    private Predicate afterCursor(CriteriaBuilder cb, Root<Job> root, JobCursor after) {
+        Path<LocalDate> postedDate = root.get("postedDate");
+        Path<Long> id = root.get("id");
+
+        if (after.getPostedDate() == null) {
+            // Still inside the unpublished block: remaining nulls, then every dated job
+            return cb.or(
+                cb.and(cb.isNull(postedDate), cb.lessThan(id, after.getId())),
+                cb.isNotNull(postedDate)
+            );
+        }
+
+        return cb.or(
+            cb.lessThan(postedDate, after.getPostedDate()),
+            cb.and(cb.equal(postedDate, after.getPostedDate()), cb.lessThan(id, after.getId()))
+        );
+    }
+}
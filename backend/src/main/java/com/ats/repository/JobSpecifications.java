@@ -0,0 +1,78 @@
+package com.ats.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ats.model.Job;
+import com.ats.model.JobStatus;
+import com.ats.model.RegionView;
+import com.ats.model.WorkSetting;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Reusable JPA specifications for querying jobs
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    /**
+     * Restrict jobs to those visible in the given regional view
+     *
+     * @param view the effective region view, null is treated as unrestricted
+     */
+    public static Specification<Job> inRegionView(RegionView view) {
+        return (root, query, cb) -> {
+            if (view == RegionView.EU) {
+                return cb.equal(root.get("region"), "EU");
+            }
+            if (view == RegionView.NON_EU) {
+                return cb.or(
+                    cb.isNull(root.get("region")),
+                    cb.notEqual(root.get("region"), "EU")
+                );
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Restrict jobs to the given statuses, no-op when empty
+     */
+    public static Specification<Job> hasStatusIn(Collection<JobStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty()
+            ? null
+            : root.get("jobStatus").in(statuses);
+    }
+
+    /**
+     * Restrict jobs to the given work settings, no-op when empty
+     */
+    public static Specification<Job> hasWorkSettingIn(Collection<WorkSetting> workSettings) {
+        return (root, query, cb) -> workSettings == null || workSettings.isEmpty()
+            ? null
+            : root.get("workSetting").in(workSettings);
+    }
+
+    /**
+     * Restrict jobs to full-text matches of a search term in web search syntax,
+     * evaluated in SQL against the weighted search_vector; no-op when blank
+     */
+    public static Specification<Job> matchesText(String term) {
+        return (root, query, cb) -> term == null || term.isBlank()
+            ? null
+            : cb.isTrue(cb.function(FullTextSearchFunctions.MATCHES, Boolean.class, root.get("id"), cb.literal(term.trim())));
+    }
+
+    /**
+     * The full-text relevance of a job for a search term, to order matches by
+     */
+    public static Expression<Double> textRank(Root<Job> root, CriteriaBuilder cb, String term) {
+        return cb.function(FullTextSearchFunctions.RANK, Double.class, root.get("id"), cb.literal(term.trim()));
+    }
+}
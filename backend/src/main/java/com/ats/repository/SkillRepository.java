@@ -0,0 +1,23 @@
+package com.ats.repository;
+
+import com.ats.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    // The taxonomy is small enough to read whole; fetching synonyms here avoids a query per skill
+    @Query("SELECT DISTINCT s FROM Skill s LEFT JOIN FETCH s.synonyms ORDER BY s.name")
+    List<Skill> findAllWithSynonyms();
+
+    /**
+     * Stamp of the latest change to the taxonomy, compared by replicas to tell when to rebuild their matcher
+     */
+    @Query("SELECT MAX(s.updatedAt) FROM Skill s")
+    LocalDateTime findLastUpdatedAt();
+}
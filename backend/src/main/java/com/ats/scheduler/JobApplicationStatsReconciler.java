@@ -0,0 +1,62 @@
+package com.ats.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Nightly reconciliation of job_application_stats against the applications table
+ * The counters are kept by triggers, so drift should only come from manual data fixes
+ */
+@Component
+public class JobApplicationStatsReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationStatsReconciler.class);
+
+    // Advisory lock key shared by all replicas so only one of them reconciles at a time
+    private static final long RECONCILE_LOCK_KEY = 731_002L;
+
+    private static final String FIX_COUNTS_SQL =
+        "INSERT INTO job_application_stats AS s (job_id, status, application_count) " +
+        "SELECT job_id, status, COUNT(*) FROM applications WHERE job_id IS NOT NULL GROUP BY job_id, status " +
+        "ON CONFLICT (job_id, status) DO UPDATE " +
+        "SET application_count = EXCLUDED.application_count, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE s.application_count <> EXCLUDED.application_count";
+
+    private static final String REMOVE_STALE_SQL =
+        "DELETE FROM job_application_stats s " +
+        "WHERE NOT EXISTS (SELECT 1 FROM applications a WHERE a.job_id = s.job_id AND a.status = s.status)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recount applications per job and status and correct any counter that drifted
+     * Runs every night at 03:30
+     */
+    @Scheduled(cron = "${app.applications.stats.reconcile-cron:0 30 3 * * ?}")
+    @Transactional
+    public void reconcile() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RECONCILE_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            logger.info("Application stats reconciliation is already running on another instance, skipping");
+            return;
+        }
+
+        // Hold off writers until commit so no trigger increment lands between the recount and the fix
+        jdbcTemplate.execute("LOCK TABLE applications IN SHARE MODE");
+
+        int corrected = jdbcTemplate.update(FIX_COUNTS_SQL);
+        int removed = jdbcTemplate.update(REMOVE_STALE_SQL);
+
+        if (corrected > 0 || removed > 0) {
+            logger.warn("Application stats reconciliation corrected {} counter(s) and removed {} stale one(s)", corrected, removed);
+        } else {
+            logger.info("Application stats reconciliation found no drift");
+        }
+    }
+}
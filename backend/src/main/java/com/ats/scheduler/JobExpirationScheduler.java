@@ -1,64 +1,210 @@
 package com.ats.scheduler;
 
-import com.ats.model.Job;
-import com.ats.model.JobStatus;
-import com.ats.repository.JobRepository;
+import com.ats.event.JobsExpiredEvent;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Scheduled task to automatically expire jobs on their expiration date
- * Runs daily at midnight to check and expire jobs
+ * Runs hourly; a job expires once its expiration date is reached in its region's timezone
  */
 @Component
 public class JobExpirationScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(JobExpirationScheduler.class);
 
+    // Advisory lock key shared by all replicas so only one of them expires jobs at a time
+    private static final long EXPIRATION_LOCK_KEY = 731_001L;
+
+    private static final String EXPIRE_CHUNK_SQL =
+        "UPDATE jobs SET status = 'EXPIRED', updated_at = CURRENT_TIMESTAMP " +
+        "WHERE id IN (" +
+        "  SELECT id FROM jobs " +
+        "  WHERE status IN ('PUBLISHED', 'REOPENED') " +
+        "  AND expiration_date <= ? AND %s " +
+        "  ORDER BY id LIMIT ? " +
+        "  FOR UPDATE SKIP LOCKED" +
+        ") RETURNING id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
-    private JobRepository jobRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.jobs.expiration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.jobs.expiration.default-timezone:UTC}")
+    private String defaultTimezone;
+
+    // Comma separated REGION:Zone/Id pairs, e.g. EU:Europe/Brussels,RW:Africa/Kigali
+    @Value("${app.jobs.expiration.region-timezones:}")
+    private String regionTimezones;
+
+    // Parsed once at startup, so a bad zone stops the application instead of failing every run
+    private ZoneId defaultZone;
+    private Map<String, ZoneId> regionZones;
+
+    @PostConstruct
+    public void init() {
+        defaultZone = parseZone("app.jobs.expiration.default-timezone", defaultTimezone);
+        regionZones = parseRegionTimezones();
+        logger.info("Job expiration timezones: default {}, regions {}", defaultZone, regionZones);
+    }
 
     /**
      * Expire jobs that have reached their expiration date
-     * Runs daily at 00:00:00 (midnight)
+     * Runs at the start of every hour
      */
-    @Scheduled(cron = "0 0 0 * * ?") // Run daily at midnight
-    @Transactional
+    @Scheduled(cron = "${app.jobs.expiration.cron:0 0 * * * ?}")
     public void expireJobs() {
         logger.info("Starting job expiration check...");
-        
-        LocalDate today = LocalDate.now();
-        List<Job> jobsToExpire = jobRepository.findJobsToExpire(today);
-        
-        if (jobsToExpire.isEmpty()) {
-            logger.info("No jobs to expire today");
+
+        List<Long> expiredIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) this::expireWithLock);
+
+        if (expiredIds == null) {
+            logger.info("Job expiration is already running on another instance, skipping");
             return;
         }
-        
-        logger.info("Found {} job(s) to expire", jobsToExpire.size());
-        
-        int expiredCount = 0;
-        for (Job job : jobsToExpire) {
+        if (expiredIds.isEmpty()) {
+            logger.info("No jobs to expire");
+            return;
+        }
+
+        logger.info("Job expiration check completed. Expired {} job(s): {}", expiredIds.size(), expiredIds);
+        eventPublisher.publishEvent(new JobsExpiredEvent(expiredIds));
+    }
+
+    /**
+     * Expire due jobs region by region while holding the advisory lock on this connection.
+     * Each chunk commits on its own so row locks are held only briefly.
+     *
+     * @return the expired job ids, or null if another instance holds the lock
+     */
+    private List<Long> expireWithLock(Connection connection) throws SQLException {
+        if (!tryLock(connection)) {
+            return null;
+        }
+
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
             try {
-                job.setJobStatus(JobStatus.EXPIRED);
-                jobRepository.save(job);
-                expiredCount++;
-                logger.info("Expired job ID: {}, Title: {}, Expiration Date: {}", 
-                          job.getId(), job.getTitle(), job.getExpirationDate());
-            } catch (Exception e) {
-                logger.error("Error expiring job ID: {}: {}", job.getId(), e.getMessage(), e);
+                Map<String, ZoneId> zones = regionZones;
+                List<Long> expiredIds = new ArrayList<>();
+
+                for (Map.Entry<String, ZoneId> entry : zones.entrySet()) {
+                    expiredIds.addAll(expireInChunks(connection, "region = ?",
+                        Collections.singletonList(entry.getKey()), LocalDate.now(entry.getValue())));
+                }
+
+                // Jobs with no region, or a region without a configured timezone
+                String otherRegions = zones.isEmpty()
+                    ? "TRUE"
+                    : "(region IS NULL OR region NOT IN (" + String.join(", ", Collections.nCopies(zones.size(), "?")) + "))";
+                expiredIds.addAll(expireInChunks(connection, otherRegions,
+                    new ArrayList<>(zones.keySet()), LocalDate.now(defaultZone)));
+
+                return expiredIds;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } finally {
+            unlock(connection);
+        }
+    }
+
+    private List<Long> expireInChunks(Connection connection, String regionCondition,
+                                      List<String> regionParams, LocalDate today) throws SQLException {
+        List<Long> expiredIds = new ArrayList<>();
+        String sql = String.format(EXPIRE_CHUNK_SQL, regionCondition);
+
+        int updated;
+        do {
+            updated = 0;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setDate(index++, Date.valueOf(today));
+                for (String region : regionParams) {
+                    statement.setString(index++, region);
+                }
+                statement.setInt(index, chunkSize);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        expiredIds.add(resultSet.getLong(1));
+                        updated++;
+                    }
+                }
+            }
+        } while (updated == chunkSize);
+
+        return expiredIds;
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, EXPIRATION_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
             }
         }
-        
-        logger.info("Job expiration check completed. Expired {} job(s) out of {} found", 
-                   expiredCount, jobsToExpire.size());
     }
-}
 
+    private void unlock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, EXPIRATION_LOCK_KEY);
+            statement.execute();
+        } catch (SQLException e) {
+            logger.error("Failed to release job expiration lock: {}", e.getMessage(), e);
+        }
+    }
+
+    private Map<String, ZoneId> parseRegionTimezones() {
+        Map<String, ZoneId> zones = new LinkedHashMap<>();
+        if (regionTimezones == null || regionTimezones.isBlank()) {
+            return Collections.unmodifiableMap(zones);
+        }
+
+        for (String pair : regionTimezones.split(",")) {
+            String[] parts = pair.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalStateException("Malformed app.jobs.expiration.region-timezones entry '" + pair
+                    + "', expected REGION:Zone/Id");
+            }
+            zones.put(parts[0].trim(), parseZone("app.jobs.expiration.region-timezones", parts[1]));
+        }
+        return Collections.unmodifiableMap(zones);
+    }
+
+    private static ZoneId parseZone(String property, String zone) {
+        try {
+            return ZoneId.of(zone.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalStateException("Invalid timezone '" + zone + "' in " + property + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ats.scheduler;
+
+import com.ats.model.Application;
+import com.ats.model.EmailEvent;
+import com.ats.model.EmailNotification;
+import com.ats.repository.ApplicationRepository;
+import com.ats.service.EmailService;
+import com.ats.service.OutboxService;
+import com.ats.service.OutboxService.OutboxEvent;
+import com.ats.service.ResumeAnalysisQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dispatches outbox events recorded alongside application writes.
+ * Delivery is at-least-once, so every handler checks whether its work is already done.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ResumeAnalysisQueue resumeAnalysisQueue;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        List<OutboxEvent> events = outboxService.claimDue(batchSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Dispatching {} outbox events", events.size());
+        for (OutboxEvent event : events) {
+            try {
+                switch (event.type()) {
+                    case APPLICATION_RECEIVED_EMAIL -> sendApplicationEmail(event, EmailEvent.APPLICATION_RECEIVED);
+                    case APPLICATION_REVIEWED_EMAIL -> sendApplicationEmail(event, EmailEvent.APPLICATION_REVIEWED);
+                    case APPLICATION_SHORTLISTED_EMAIL -> sendApplicationEmail(event, EmailEvent.APPLICATION_SHORTLISTED);
+                    case RESUME_ANALYSIS -> analyzeResume(event);
+                }
+            } catch (Exception e) {
+                outboxService.markFailed(event, e.getMessage());
+            }
+        }
+    }
+
+    private void sendApplicationEmail(OutboxEvent event, EmailEvent emailEvent) {
+        // Load and send in one transaction so the email templates can walk lazy associations,
+        // and so the sent marker commits together with the notification row
+        EmailNotification notification = transactionTemplate.execute(status -> {
+            if (outboxService.isEmailSent(event.id())) {
+                logger.debug("Email for outbox event {} was already sent, skipping", event.id());
+                return null;
+            }
+            Optional<Application> application = applicationRepository.findByIdWithCandidateAndJob(event.aggregateId());
+            if (application.isEmpty()) {
+                return null;
+            }
+            EmailNotification sent;
+            try {
+                sent = emailService.sendApplicationEmail(application.get(), emailEvent);
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            if (sent.getStatus() == EmailNotification.EmailStatus.SENT) {
+                outboxService.markEmailSent(event.id(), sent.getId());
+            }
+            return sent;
+        });
+
+        if (notification != null && notification.getStatus() == EmailNotification.EmailStatus.FAILED) {
+            outboxService.markFailed(event, notification.getErrorMessage());
+            return;
+        }
+        outboxService.markDone(event.id());
+    }
+
+    private void analyzeResume(OutboxEvent event) {
+        // Analyses now run from their own queue; hand over events recorded before the switch
+        resumeAnalysisQueue.enqueue(event.aggregateId());
+        outboxService.markDone(event.id());
+    }
+}
@@ -0,0 +1,249 @@
+package com.ats.scheduler;
+
+import com.ats.dto.ResumeAnalysisDTO;
+import com.ats.model.Application;
+import com.ats.repository.ApplicationRepository;
+import com.ats.service.ResumeAnalysisQueue;
+import com.ats.service.ResumeAnalysisQueue.ResumeAnalysisJob;
+import com.ats.service.ResumeAnalysisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Works the resume analysis queue with a fixed number of analysis threads.
+ * Each replica runs its own worker; SKIP LOCKED claims keep them from taking the same job,
+ * and a job left behind by a replica that stopped mid-analysis is reclaimed once its lease runs out.
+ */
+@Component
+public class ResumeAnalysisWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeAnalysisWorker.class);
+
+    @Autowired
+    private ResumeAnalysisQueue resumeAnalysisQueue;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    @Qualifier("genericResumeAnalysisService")
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.resume-analysis.worker.concurrency:2}")
+    private int concurrency;
+
+    @Value("${app.resume-analysis.worker.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final Map<ResumeAnalysisQueue.Status, AtomicLong> queueDepth = new EnumMap<>(ResumeAnalysisQueue.Status.class);
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private final Set<ResumeAnalysisJob> running = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+    private Semaphore slots;
+    private Timer waitTimer;
+    private Timer analysisTimer;
+    private Counter doneCounter;
+    private Counter retryCounter;
+    private Counter deadCounter;
+
+    @PostConstruct
+    public void init() {
+        int threads = Math.max(concurrency, 1);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ResumeAnalysisWorker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        slots = new Semaphore(threads);
+
+        // Depth gauges report the shared queue, so every replica shows the same values
+        for (ResumeAnalysisQueue.Status status : ResumeAnalysisQueue.COUNTED_STATUSES) {
+            AtomicLong depth = new AtomicLong();
+            queueDepth.put(status, depth);
+            Gauge.builder("resume.analysis.queue.depth", depth, AtomicLong::get)
+                    .description("Resume analysis jobs per status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("resume.analysis.queue.oldest.pending.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Seconds the oldest due pending resume analysis job has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        waitTimer = Timer.builder("resume.analysis.queue.wait")
+                .description("Time from enqueue to the start of an analysis attempt")
+                .register(meterRegistry);
+        analysisTimer = Timer.builder("resume.analysis.duration")
+                .description("Time spent analyzing one resume")
+                .register(meterRegistry);
+        doneCounter = jobCounter("done");
+        retryCounter = jobCounter("retry");
+        deadCounter = jobCounter("dead");
+
+        logger.info("Resume analysis worker {} started with {} threads", workerId, threads);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            // Interrupted jobs stay RUNNING and are reclaimed when their lease runs out
+            logger.warn("Resume analysis worker {} stopped with analyses still running", workerId);
+            executor.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume-analysis.worker.poll-interval-ms:2000}")
+    public void poll() {
+        // Only claim what there are free threads for; unclaimed jobs stay available to other replicas
+        int free = slots.availablePermits();
+        if (free == 0 || executor.isShutdown()) {
+            return;
+        }
+
+        List<ResumeAnalysisJob> jobs = resumeAnalysisQueue.claim(workerId, free);
+        for (ResumeAnalysisJob job : jobs) {
+            slots.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                slots.release();
+                logger.warn("Resume analysis worker is shutting down, job {} will be reclaimed after its lease", job.id());
+            }
+        }
+    }
+
+    /**
+     * Keep the leases of this worker's analyses alive; must run well within the lease period
+     */
+    @Scheduled(fixedDelayString = "${app.resume-analysis.worker.heartbeat-interval-ms:300000}")
+    public void heartbeat() {
+        if (!running.isEmpty()) {
+            resumeAnalysisQueue.extendLease(List.copyOf(running));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume-analysis.worker.metrics-interval-ms:30000}")
+    public void refreshQueueMetrics() {
+        resumeAnalysisQueue.countByStatus().forEach((status, count) -> queueDepth.get(status).set(count));
+        oldestPendingAgeSeconds.set(resumeAnalysisQueue.oldestPendingAgeSeconds());
+    }
+
+    private void run(ResumeAnalysisJob job) {
+        if (job.enqueuedAt() != null) {
+            waitTimer.record(Duration.between(job.enqueuedAt(), OffsetDateTime.now()));
+        }
+
+        running.add(job);
+        try {
+            analysisTimer.record(() -> analyze(job));
+            resumeAnalysisQueue.markDone(job);
+            doneCounter.increment();
+        } catch (Exception e) {
+            boolean dead = resumeAnalysisQueue.markFailed(job, e.getMessage());
+            if (!dead) {
+                retryCounter.increment();
+                return;
+            }
+            deadCounter.increment();
+            if (e instanceof AnalysisFailedException failed) {
+                // Leave the failure visible on the application, as inline analysis used to
+                storeAnalysis(job.applicationId(), failed.analysis, true);
+            }
+        } finally {
+            running.remove(job);
+        }
+    }
+
+    private void analyze(ResumeAnalysisJob job) {
+        Optional<Application> found = applicationRepository.findByIdWithCandidateAndJob(job.applicationId());
+        Application application = found.orElse(null);
+        if (application == null || application.getResumeUrl() == null || application.getResumeUrl().isBlank()) {
+            // Deleted since it was queued, or there is no resume to analyze
+            return;
+        }
+
+        ResumeAnalysisDTO analysis = resumeAnalysisService.analyzeResume(application.getResumeUrl(), application.getJob());
+        if (analysis.isFailed()) {
+            throw new AnalysisFailedException(analysis);
+        }
+        storeAnalysis(application.getId(), analysis, false);
+        logger.info("Resume analysis completed for application ID: {}", application.getId());
+    }
+
+    /**
+     * Write the analysis onto a freshly loaded application, so a status change made
+     * while the resume was being analyzed is not overwritten
+     */
+    private void storeAnalysis(Long applicationId, ResumeAnalysisDTO analysis, boolean onlyIfMissing) {
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.findById(applicationId)
+                .filter(application -> !onlyIfMissing || application.getResumeAnalysis() == null)
+                .ifPresent(application -> resumeAnalysisService.updateApplicationWithAnalysis(application, analysis)));
+    }
+
+    private Counter jobCounter(String outcome) {
+        return Counter.builder("resume.analysis.jobs")
+                .description("Resume analysis attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The analysis service reports failures as a placeholder analysis rather than an exception
+     */
+    private static class AnalysisFailedException extends RuntimeException {
+
+        private final transient ResumeAnalysisDTO analysis;
+
+        AnalysisFailedException(ResumeAnalysisDTO analysis) {
+            super(analysis.getAnalysisMetadata().getProcessingNotes() != null
+                    ? String.join("; ", analysis.getAnalysisMetadata().getProcessingNotes())
+                    : "Resume analysis failed");
+            this.analysis = analysis;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ats.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Service for exporting a job's applicants
+ */
+public interface ApplicationExportService {
+
+	/**
+	 * Stream every application of a job as CSV: candidate and application fields,
+	 * extracted resume scores, then one column per custom question of the job.
+	 * Rows are read through a database cursor, so memory use does not grow with the
+	 * number of applications.
+	 *
+	 * @param jobId     the job ID
+	 * @param out       the stream to write to; it is flushed but not closed
+	 * @param cancelled checked before each row; once true the export stops where it is
+	 * @throws IOException if writing to the stream fails
+	 */
+	void writeApplicantsCsv(Long jobId, OutputStream out, BooleanSupplier cancelled) throws IOException;
+}
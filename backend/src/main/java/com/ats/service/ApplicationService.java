@@ -1,14 +1,23 @@
 package com.ats.service;
 
+import com.ats.dto.ApplicantSummaryDTO;
 import com.ats.dto.ApplicationDTO;
+import com.ats.dto.BulkStatusUpdateRequest;
+import com.ats.dto.BulkStatusUpdateResultDTO;
+import com.ats.dto.CandidateApplicationSummaryDTO;
+import com.ats.dto.CursorPageDTO;
 import com.ats.exception.AtsCustomExceptions.NotFoundException;
+import com.ats.model.ApplicantSort;
 import com.ats.model.ApplicationStatus;
+import com.ats.model.ResumeScore;
 import jakarta.mail.MessagingException;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -52,6 +61,30 @@ public interface ApplicationService {
 	 */
 	Page<ApplicationDTO> getApplicationsByJobIdAndStatus(Long jobId, ApplicationStatus status, Pageable pageable);
 
+	/**
+	 * Get a job's applicants as summary rows using keyset pagination
+	 *
+	 * @param jobId  the job ID
+	 * @param status the application status to filter by, or null for all
+	 * @param sort   the ordering, defaults to newest first
+	 * @param cursor the nextCursor of the previous page, or null for the first page
+	 * @param size   the page size, clamped to the configured maximum
+	 * @return a page of applicant summaries
+	 */
+	CursorPageDTO<ApplicantSummaryDTO> getApplicantsPage(Long jobId, ApplicationStatus status, ApplicantSort sort,
+			String cursor, Integer size);
+
+	/**
+	 * Get the best-scoring applicants of a job, read from the indexed score columns
+	 *
+	 * @param jobId  the job ID
+	 * @param status the application status to filter by, or null for all
+	 * @param score  the score to rank by, defaults to the overall score
+	 * @param limit  how many applicants to return, clamped to the configured maximum
+	 * @return the top applicants, best first; unscored applicants are left out
+	 */
+	List<ApplicantSummaryDTO> getTopApplicants(Long jobId, ApplicationStatus status, ResumeScore score, Integer limit);
+
 	/**
 	 * Get applications for a job with search functionality
 	 *
@@ -71,6 +104,15 @@ public interface ApplicationService {
 	 */
 	Page<ApplicationDTO> getApplicationsByCandidateId(Long candidateId, Pageable pageable);
 
+	/**
+	 * Get a candidate's own applications as slim dashboard rows, newest first
+	 *
+	 * @param candidateId the candidate ID
+	 * @param pageable    pagination information
+	 * @return a page of application summaries
+	 */
+	Page<CandidateApplicationSummaryDTO> getCandidateApplicationSummaries(Long candidateId, Pageable pageable);
+
 	/**
 	 * Update an application's status
 	 *
@@ -80,6 +122,17 @@ public interface ApplicationService {
 	 */
 	ApplicationDTO updateApplicationStatus(Long applicationId, ApplicationStatus newStatus);
 
+	/**
+	 * Move many applications to one status in a single set-based update.
+	 * Each item may carry the version the client last saw; changed applications are
+	 * reported as conflicts instead of being overwritten. Status emails are queued
+	 * in the outbox as one batch.
+	 *
+	 * @param request the target status and the applications to move
+	 * @return the outcome for each requested application, in request order
+	 */
+	BulkStatusUpdateResultDTO bulkUpdateStatus(BulkStatusUpdateRequest request);
+
 	/**
 	 * Update an application
 	 *
@@ -105,6 +158,15 @@ public interface ApplicationService {
 	 */
 	Map<ApplicationStatus, Long> getApplicationStatsByJobId(Long jobId);
 
+	/**
+	 * Get application statistics for many jobs at once, read from the
+	 * incrementally maintained per-job counters
+	 *
+	 * @param jobIds the job IDs
+	 * @return a map of job ID to a map of status to count, every status present; unknown jobs count zero
+	 */
+	Map<Long, Map<ApplicationStatus, Long>> getApplicationStatsByJobIds(Collection<Long> jobIds);
+
 	/**
 	 * Check if a candidate has already applied to a job
 	 *
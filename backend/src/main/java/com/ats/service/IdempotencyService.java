@@ -0,0 +1,43 @@
+package com.ats.service;
+
+/**
+ * Short-lived store behind the Idempotency-Key request header.
+ * The first request with a key claims it and records its response; a retry with
+ * the same key and request gets that response back instead of running again.
+ */
+public interface IdempotencyService {
+
+    enum State {
+        /** The key was free, expired, or its in-progress lease ran out, and now belongs to this request */
+        CLAIMED,
+        /** A request with this key already completed; replay its response */
+        COMPLETED,
+        /** A request with this key is still running */
+        IN_PROGRESS,
+        /** The key was used for a different request */
+        MISMATCH
+    }
+
+    record Claim(State state, Integer responseStatus, String responseBody) {}
+
+    /**
+     * Claim a key for a request
+     *
+     * @param scope what the key applies to, e.g. an operation and the calling user
+     * @param key the client-supplied Idempotency-Key
+     * @param requestHash a fingerprint of the request, to catch a key reused for another request
+     * @return the claim, with the stored response when the request already completed
+     */
+    Claim begin(String scope, String key, String requestHash);
+
+    /**
+     * Record the response of a claimed request so retries can replay it, keeping it
+     * for the full TTL rather than the short lease of an in-progress claim
+     */
+    void complete(String scope, String key, int responseStatus, String responseBody);
+
+    /**
+     * Give up a claimed key after a failure, so the client can retry with it
+     */
+    void release(String scope, String key);
+}
@@ -0,0 +1,59 @@
+package com.ats.service;
+
+import java.util.Optional;
+
+import com.ats.model.RegionView;
+
+/**
+ * Pre-rendered JSON snapshots of the public job board, addressed by content hash.
+ * Snapshots are rendered on first use and re-rendered when jobs change, or once
+ * they are older than the configured max age so changes made on other replicas show up.
+ */
+public interface JobBoardSnapshotService {
+
+    /**
+     * Get the snapshot of active jobs visible in a region view
+     */
+    public Snapshot getActiveJobs(RegionView view);
+
+    /**
+     * Get the snapshot of an active job's detail, including its custom questions
+     *
+     * @return the snapshot, or empty if the job does not exist or is not active
+     */
+    public Optional<Snapshot> getJob(Long jobId);
+
+    /**
+     * Get a snapshot by its content hash, including ones that have since been replaced
+     * but are still stored on disk
+     */
+    public Optional<Snapshot> getByHash(String hash);
+
+    /**
+     * An immutable rendered document with its SHA-256 content hash and gzip variant
+     */
+    public static final class Snapshot {
+
+        private final String hash;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        public Snapshot(String hash, byte[] json, byte[] gzip) {
+            this.hash = hash;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
@@ -12,6 +12,15 @@ public interface JobCustomQuestionService {
     public JobCustomQuestionDTO createCustomQuestion(JobCustomQuestionDTO customQuestion);
     public boolean deleteCustomQuestionById(Long customQuestionId);
     public List<JobCustomQuestionDTO> getAllCustomQuestionsbyJobId(Long JobId);
+    
+    /**
+     * Make a job's custom questions match the given list: questions without a known ID are
+     * inserted, existing questions missing from the list are deleted unless already answered.
+     * Inserts and deletes are each sent as one JDBC batch.
+     * 
+     * @return the job's questions after the sync, ordered by ID
+     */
+    public List<JobCustomQuestionDTO> syncCustomQuestions(Long jobId, List<JobCustomQuestionDTO> questions);
     public JobCustomQuestionDTO getCustomQuestionbyId(Long customQuestionId);
     
     /**
@@ -0,0 +1,29 @@
+package com.ats.service;
+
+import java.util.Optional;
+
+import com.ats.dto.JobRescoreRunDTO;
+
+/**
+ * Re-scores a job's analyzed applicants against its current description and skills.
+ * Only the job-specific score is recomputed from the stored analysis; the AI backend is not called.
+ */
+public interface JobRescoreService {
+
+    /**
+     * Start re-scoring a job's applicants in the background, superseding any unfinished run for the job
+     *
+     * @param jobId the job whose applicants to re-score
+     * @return the new run
+     * @throws com.ats.exception.AtsCustomExceptions.NotFoundException if the job does not exist
+     */
+    JobRescoreRunDTO startRescore(Long jobId);
+
+    /**
+     * Get the most recent re-score run of a job
+     *
+     * @param jobId the job ID
+     * @return the latest run, or empty if the job was never re-scored
+     */
+    Optional<JobRescoreRunDTO> getLatestRun(Long jobId);
+}
@@ -19,6 +19,8 @@ public interface JobService {
     public JobDTO updateJob(JobDTO jobDTO, Long id);
     public boolean deleteJob(Long id);
     public List<JobDTO> getAllJobs(List<JobStatus> jobStatuses, List<WorkSetting> workSetting, String description);
+    public CursorPageDTO<JobDTO> getJobsPage(List<JobStatus> jobStatuses, List<WorkSetting> workSetting, String description, String cursor, Integer size);
+    public JobFacetsDTO getJobFacets(List<JobStatus> jobStatuses, List<WorkSetting> workSetting, String description);
     public List<JobDTO> getActiveJobs();
     public List<JobDTO> getPastJobs();
     public List<JobDTO> searchJobs(String keyword, String filter);
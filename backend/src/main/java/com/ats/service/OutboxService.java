@@ -0,0 +1,65 @@
+package com.ats.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.ats.model.OutboxEventType;
+
+/**
+ * Transactional outbox: side effects are recorded in the caller's transaction
+ * and dispatched once it has committed, with retries and backoff.
+ */
+public interface OutboxService {
+
+    /**
+     * A claimed outbox row
+     */
+    record OutboxEvent(Long id, OutboxEventType type, Long aggregateId, int attempts) {}
+
+    /**
+     * Record a side effect in the current transaction.
+     * The event is keyed by type and aggregate, so enqueueing the same one twice is a no-op.
+     *
+     * @param type the side effect to run
+     * @param aggregateId the id of the entity it applies to
+     */
+    void enqueue(OutboxEventType type, Long aggregateId);
+
+    /**
+     * Record the same side effect for many aggregates in one JDBC batch.
+     * Events are keyed by type, aggregate and aggregate version, so the side effect
+     * fires again for a later change of the same aggregate but not twice for one change.
+     *
+     * @param type the side effect to run
+     * @param aggregateVersions the version of each aggregate after the change, by aggregate id
+     */
+    void enqueueAll(OutboxEventType type, Map<Long, Long> aggregateVersions);
+
+    /**
+     * Claim due pending events. Claimed events are hidden from other dispatchers
+     * until the lease runs out, so an event whose dispatcher dies is picked up again.
+     *
+     * @param limit the maximum number of events to claim
+     * @return the claimed events, oldest first
+     */
+    List<OutboxEvent> claimDue(int limit);
+
+    void markDone(Long eventId);
+
+    /**
+     * Whether an email has already been sent for an event, by an earlier delivery
+     * that committed its notification but did not get to mark the event done
+     */
+    boolean isEmailSent(Long eventId);
+
+    /**
+     * Record the email sent for an event, in the transaction that saves its notification
+     */
+    void markEmailSent(Long eventId, Long emailNotificationId);
+
+    /**
+     * Record a failed attempt, scheduling a retry with exponential backoff
+     * or marking the event FAILED once it has used up its attempts
+     */
+    void markFailed(OutboxEvent event, String error);
+}
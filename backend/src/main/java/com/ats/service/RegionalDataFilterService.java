@@ -2,6 +2,7 @@ package com.ats.service;
 
 import com.ats.model.User;
 import com.ats.model.Region;
+import com.ats.model.RegionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -62,6 +63,14 @@ public interface RegionalDataFilterService {
      */
     String getEffectiveRegionFilter(User user, Boolean viewingAsNonEU);
     
+    /**
+     * Get the effective region view for a user considering view mode
+     * @param user the user to check
+     * @param viewingAsNonEU whether the user is viewing as non-EU
+     * @return the region view to apply to queries, UNRESTRICTED for no filter
+     */
+    RegionView getEffectiveRegionView(User user, Boolean viewingAsNonEU);
+    
     /**
      * Get the current view mode from session for a user
      * @param user the user to check
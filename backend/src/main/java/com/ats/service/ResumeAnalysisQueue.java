@@ -0,0 +1,83 @@
+package com.ats.service;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Durable queue of resume analyses. Jobs live in the database, so they survive
+ * restarts and deploys, and any number of replicas can work the queue at once.
+ */
+public interface ResumeAnalysisQueue {
+
+    enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        DEAD
+    }
+
+    /**
+     * Statuses reported by {@link #countByStatus()}
+     */
+    Set<Status> COUNTED_STATUSES = Collections.unmodifiableSet(EnumSet.of(Status.PENDING, Status.RUNNING, Status.DEAD));
+
+    /**
+     * A claimed job
+     */
+    record ResumeAnalysisJob(Long id, Long applicationId, int attempts, OffsetDateTime enqueuedAt) {}
+
+    /**
+     * Queue an analysis of an application's resume.
+     * Joins the caller's transaction if there is one; a job already pending or
+     * running for the application absorbs the request.
+     *
+     * @param applicationId the application whose resume to analyze
+     */
+    void enqueue(Long applicationId);
+
+    /**
+     * Claim due jobs for a worker. Claimed jobs are leased to the worker; a job whose
+     * lease runs out (e.g. its replica died mid-analysis) is claimed again by anyone,
+     * unless that was its last attempt, in which case it is dead-lettered.
+     *
+     * @param workerId identifies the claiming worker, for diagnostics
+     * @param limit the maximum number of jobs to claim
+     * @return the claimed jobs
+     */
+    List<ResumeAnalysisJob> claim(String workerId, int limit);
+
+    /**
+     * Renew the lease on jobs still being worked, so a long but healthy analysis
+     * is not reclaimed by another worker. Jobs reclaimed in the meantime are left alone.
+     */
+    void extendLease(Collection<ResumeAnalysisJob> jobs);
+
+    /**
+     * Mark a claimed job as done
+     */
+    void markDone(ResumeAnalysisJob job);
+
+    /**
+     * Record a failed attempt. The job is retried with exponential backoff
+     * until it runs out of attempts, then dead-lettered.
+     *
+     * @return true if the job was dead-lettered
+     */
+    boolean markFailed(ResumeAnalysisJob job, String error);
+
+    /**
+     * Count jobs per status in {@link #COUNTED_STATUSES}. DONE jobs are left out: they pile up
+     * until purged, and counting them would cost more as the queue's history grows.
+     */
+    Map<Status, Long> countByStatus();
+
+    /**
+     * Age in seconds of the oldest due pending job, 0 if none is waiting
+     */
+    long oldestPendingAgeSeconds();
+}
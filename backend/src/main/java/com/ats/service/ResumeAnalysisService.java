@@ -64,6 +64,16 @@ public interface ResumeAnalysisService {
      */
     ResumeAnalysisDTO rescoreForJob(ResumeAnalysisDTO existingAnalysis, Job job);
 
+    /**
+     * Score an existing analysis against a job without modifying it.
+     * Pure computation with no AI call, safe to run from many threads at once.
+     * 
+     * @param analysis Previous analysis data
+     * @param job Job posting for comparison
+     * @return The job-specific score
+     */
+    ResumeAnalysisDTO.ResumeScoreDTO scoreForJob(ResumeAnalysisDTO analysis, Job job);
+
     /**
      * Extract text content from various resume formats (PDF, DOC, DOCX)
      * 
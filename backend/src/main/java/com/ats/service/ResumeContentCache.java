@@ -0,0 +1,35 @@
+package com.ats.service;
+
+import java.util.Optional;
+
+import com.ats.dto.ResumeAnalysisDTO;
+
+/**
+ * Extracted text and job-independent analysis of resume files, keyed by the SHA-256 of the file.
+ * Lookups and writes never fail the analysis: on a database error the cache behaves as a miss.
+ */
+public interface ResumeContentCache {
+
+    /**
+     * A cached resume. The analysis is null until the AI backend has analyzed the text,
+     * and never carries a job-specific score.
+     */
+    record Entry(String extractedText, ResumeAnalysisDTO analysis, String analysisModel) {}
+
+    /**
+     * Look up a resume by content hash, marking the entry as recently used
+     */
+    Optional<Entry> find(String contentHash);
+
+    /**
+     * Store the text extracted from a resume
+     */
+    void saveText(String contentHash, String extractedText);
+
+    /**
+     * Store the job-independent part of an analysis; any job-specific score is dropped
+     *
+     * @param model the provider/model that produced the analysis, so a model change invalidates it
+     */
+    void saveAnalysis(String contentHash, ResumeAnalysisDTO analysis, String model);
+}
@@ -0,0 +1,32 @@
+package com.ats.service;
+
+import com.ats.dto.SkillDTO;
+import com.ats.util.SkillMatcher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface SkillTaxonomyService {
+
+    SkillDTO createSkill(SkillDTO skillDTO);
+
+    SkillDTO updateSkill(Long id, SkillDTO skillDTO);
+
+    void deleteSkill(Long id);
+
+    SkillDTO getSkillById(Long id);
+
+    List<SkillDTO> getAllSkills();
+
+    List<SkillDTO> getActiveSkills();
+
+    /**
+     * The matcher compiled from the active skills and their synonyms.
+     * It is replaced as a whole when the taxonomy changes, so callers should fetch it once per
+     * text (or batch of texts) rather than holding on to it.
+     *
+     * @return the current matcher, never null
+     */
+    SkillMatcher getMatcher();
+}
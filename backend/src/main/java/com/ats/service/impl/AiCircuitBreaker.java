@@ -0,0 +1,94 @@
+package com.ats.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker in front of the AI backend.
+ * <p>
+ * CLOSED lets every call through and counts consecutive failures; reaching the threshold
+ * opens the circuit. OPEN rejects calls outright until the open period has passed, then
+ * HALF_OPEN lets a single trial call through: success closes the circuit, failure opens it again.
+ */
+@Slf4j
+class AiCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private Instant trialStartedAt;
+
+    AiCircuitBreaker(String name, int failureThreshold, Duration openDuration, Clock clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may go to the backend now. While half-open only the trial call is
+     * allowed; a trial that never reported back is replaced after another open period.
+     */
+    synchronized boolean allowRequest() {
+        Instant now = clock.instant();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now.isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                trialStartedAt = now;
+                return true;
+            default:
+                if (now.isBefore(trialStartedAt.plus(openDuration))) {
+                    return false;
+                }
+                trialStartedAt = now;
+                return true;
+        }
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = clock.instant();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(State next) {
+        if (next == State.CLOSED) {
+            log.info("{} circuit breaker {} -> {}", name, state, next);
+        } else {
+            log.warn("{} circuit breaker {} -> {} after {} consecutive failures", name, state, next, consecutiveFailures);
+        }
+        state = next;
+    }
+}
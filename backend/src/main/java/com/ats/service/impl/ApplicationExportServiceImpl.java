@@ -0,0 +1,184 @@
+package com.ats.service.impl;
+
+import com.ats.service.ApplicationExportService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+@Service
+@Slf4j
+public class ApplicationExportServiceImpl implements ApplicationExportService {
+
+	private static final List<String> FIXED_HEADERS = List.of("Application ID", "First Name", "Last Name", "Email",
+			"Phone", "LinkedIn", "Status", "Shortlisted", "Current Position", "Current Company", "Experience Years",
+			"Expected Salary", "Overall Score", "Job Match Score", "Skills Match Score", "Experience Score",
+			"Resume Experience Years", "Resume URL", "Applied At");
+
+	private static final String QUESTIONS_SQL = "SELECT id, question_text FROM job_custom_questions WHERE job_id = ? ORDER BY id";
+
+	// Answers come back as one JSON object per application (question id -> answer), pivoted into columns in Java
+	private static final String APPLICANTS_SQL = "SELECT a.id, u.first_name, u.last_name, u.email, u.phone_number, "
+			+ "u.linkedin_profile_url, a.status, a.is_shortlisted, a.current_position, a.current_company, "
+			+ "a.experience_years, a.expected_salary, a.overall_score, a.job_match_score, a.skills_match_score, "
+			+ "a.experience_score, a.total_experience_years, a.resume_url, a.created_at, ans.answers "
+			+ "FROM applications a JOIN users u ON u.id = a.candidate_id "
+			+ "LEFT JOIN LATERAL (SELECT jsonb_object_agg(aa.question_id, aa.answer) AS answers "
+			+ "  FROM application_answers aa WHERE aa.application_id = a.id AND aa.question_id IS NOT NULL) ans ON TRUE "
+			+ "WHERE a.job_id = ? ORDER BY a.id";
+
+	private static final TypeReference<Map<String, String>> ANSWERS_TYPE = new TypeReference<>() {
+	};
+
+	private final JdbcTemplate cursorJdbcTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public ApplicationExportServiceImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, @Value("${app.applications.export.fetch-size:500}") int fetchSize) {
+		// PostgreSQL only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+		this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+		this.cursorJdbcTemplate.setFetchSize(fetchSize);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void writeApplicantsCsv(Long jobId, OutputStream out, BooleanSupplier cancelled) throws IOException {
+		log.info("Exporting applicants for job ID: {}", jobId);
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+		try {
+			long rows = readOnlyTransaction.execute(status -> {
+				List<Long> questionIds = new ArrayList<>();
+				List<String> headers = new ArrayList<>(FIXED_HEADERS);
+				cursorJdbcTemplate.query(QUESTIONS_SQL, rs -> {
+					questionIds.add(rs.getLong("id"));
+					headers.add(rs.getString("question_text"));
+				}, jobId);
+
+				// BOM so spreadsheet applications detect UTF-8
+				write(writer, "\uFEFF");
+				writeRow(writer, headers);
+
+				long[] count = { 0 };
+				cursorJdbcTemplate.query(APPLICANTS_SQL, rs -> {
+					if (cancelled.getAsBoolean()) {
+						throw new CancellationException("Export cancelled after " + count[0] + " rows");
+					}
+					writeRow(writer, toRow(rs, questionIds));
+					count[0]++;
+				}, jobId);
+				return count[0];
+			});
+			writer.flush();
+			log.info("Exported {} applicants for job ID: {}", rows, jobId);
+		} catch (CancellationException e) {
+			// The request already timed out; closing the cursor here frees the connection
+			log.warn("Stopped exporting applicants for job ID {}: {}", jobId, e.getMessage());
+		} catch (UncheckedIOException e) {
+			// Usually the client went away mid-download
+			throw e.getCause();
+		}
+	}
+
+	private List<String> toRow(ResultSet rs, List<Long> questionIds) throws SQLException {
+		List<String> row = new ArrayList<>(FIXED_HEADERS.size() + questionIds.size());
+		row.add(rs.getString("id"));
+		row.add(rs.getString("first_name"));
+		row.add(rs.getString("last_name"));
+		row.add(rs.getString("email"));
+		row.add(rs.getString("phone_number"));
+		row.add(rs.getString("linkedin_profile_url"));
+		row.add(rs.getString("status"));
+		row.add(String.valueOf(rs.getBoolean("is_shortlisted")));
+		row.add(rs.getString("current_position"));
+		row.add(rs.getString("current_company"));
+		row.add(rs.getString("experience_years"));
+		row.add(rs.getString("expected_salary"));
+		row.add(rs.getString("overall_score"));
+		row.add(rs.getString("job_match_score"));
+		row.add(rs.getString("skills_match_score"));
+		row.add(rs.getString("experience_score"));
+		row.add(rs.getString("total_experience_years"));
+		row.add(rs.getString("resume_url"));
+		row.add(rs.getString("created_at"));
+
+		Map<String, String> answers = parseAnswers(rs.getString("answers"));
+		for (Long questionId : questionIds) {
+			row.add(answers.get(questionId.toString()));
+		}
+		return row;
+	}
+
+	private Map<String, String> parseAnswers(String json) {
+		if (json == null) {
+			return Collections.emptyMap();
+		}
+		try {
+			return objectMapper.readValue(json, ANSWERS_TYPE);
+		} catch (IOException e) {
+			log.warn("Could not parse exported answers: {}", e.getMessage());
+			return Collections.emptyMap();
+		}
+	}
+
+	private static void writeRow(Writer writer, List<String> values) {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				line.append(',');
+			}
+			line.append(csvCell(values.get(i)));
+		}
+		line.append("\r\n");
+		write(writer, line.toString());
+	}
+
+	/**
+	 * Quote a value per RFC 4180, neutralising leading characters that spreadsheets would run as formulas
+	 */
+	private static String csvCell(String value) {
+		if (value == null || value.isEmpty()) {
+			return "";
+		}
+		String cell = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+		if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+			return '"' + cell.replace("\"", "\"\"") + '"';
+		}
+		return cell;
+	}
+
+	private static void write(Writer writer, String text) {
+		try {
+			writer.write(text);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -1,9 +1,16 @@
 package com.ats.service.impl;
 
+import com.ats.dto.ApplicantCursor;
+import com.ats.dto.ApplicantSummaryDTO;
 import com.ats.dto.ApplicationAnswerDTO;
 import com.ats.dto.ApplicationDTO;
+import com.ats.dto.BulkStatusUpdateRequest;
+import com.ats.dto.BulkStatusUpdateResultDTO;
+import com.ats.dto.CandidateApplicationSummaryDTO;
+import com.ats.dto.CursorPageDTO;
 import com.ats.exception.AtsCustomExceptions.BadRequestException;
 import com.ats.exception.AtsCustomExceptions.NotFoundException;
+import com.ats.exception.ResourceAlreadyExistsException;
 import com.ats.model.*;
 import com.ats.repository.ApplicationAnswerRepository;
 import com.ats.repository.ApplicationRepository;
@@ -14,11 +21,16 @@ import com.ats.service.ApplicationService;
 import com.ats.service.ResumeAnalysisService;
 import com.ats.service.EmailService;
 import com.ats.service.FileStorageService;
+import com.ats.service.OutboxService;
+import com.ats.service.ResumeAnalysisQueue;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,15 +56,26 @@ public class ApplicationServiceImpl implements ApplicationService {
 	private final ResumeAnalysisService resumeAnalysisService;
 	private final EmailService emailService;
 	private final FileStorageService fileStorageService;
+	private final OutboxService outboxService;
+	private final ResumeAnalysisQueue resumeAnalysisQueue;
 	private static final String RESUME = "resume";
 	private static final String COVER_LETTER = "cover-letter";
+	private static final String ALREADY_APPLIED = "You have already applied to this job.";
+	private static final String ACTIVE_APPLICATION_INDEX = "uk_applications_job_candidate_active";
+
+	@Value("${app.applications.page.default-size:20}")
+	private int defaultPageSize;
+
+	@Value("${app.applications.page.max-size:100}")
+	private int maxPageSize;
 
 	@Autowired
 	public ApplicationServiceImpl(ApplicationRepository applicationRepository,
 			ApplicationAnswerRepository applicationAnswerRepository, JobRepository jobRepository,
 			UserRepository userRepository, JobCustomQuestionRepository jobCustomQuestionRepository,
 			@Qualifier("genericResumeAnalysisService") ResumeAnalysisService resumeAnalysisService,
-			EmailService emailService, FileStorageService fileStorageService) {
+			EmailService emailService, FileStorageService fileStorageService, OutboxService outboxService,
+			ResumeAnalysisQueue resumeAnalysisQueue) {
 		this.applicationRepository = applicationRepository;
 		this.applicationAnswerRepository = applicationAnswerRepository;
 		this.jobRepository = jobRepository;
@@ -61,6 +84,8 @@ public class ApplicationServiceImpl implements ApplicationService {
 		this.resumeAnalysisService = resumeAnalysisService;
 		this.emailService = emailService;
 		this.fileStorageService = fileStorageService;
+		this.outboxService = outboxService;
+		this.resumeAnalysisQueue = resumeAnalysisQueue;
 	}
 
 	@Override
@@ -71,9 +96,9 @@ public class ApplicationServiceImpl implements ApplicationService {
 		String coverLetterUrl = null;
 		List<String> filesToDeleteOnRollback = new ArrayList<>();
 
-		// Check if the candidate has already applied to this job
+		// Check if the candidate has already applied to this job; the unique index catches concurrent submissions
 		if (hasApplied(applicationDTO.getJobId(), candidateId)) {
-			throw new BadRequestException("You have already applied to this job.");
+			throw new ResourceAlreadyExistsException(ALREADY_APPLIED);
 		}
 
 		// Validate job exists
@@ -128,6 +153,25 @@ public class ApplicationServiceImpl implements ApplicationService {
 			}
 		}
 
+		// Registered before the insert so a failed insert (e.g. a duplicate) also cleans up the files
+		if (!filesToDeleteOnRollback.isEmpty()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_ROLLED_BACK) {
+						for (String fileUrl : filesToDeleteOnRollback) {
+							try {
+								String filename = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+								fileStorageService.deleteFile(filename);
+							} catch (Exception e) {
+								log.error("failed to delete file with name: {}", fileUrl);
+							}
+						}
+					}
+				}
+			});
+		}
+
 		// Create and save the application
 		Application application = new Application();
 		application.setJob(job);
@@ -147,7 +191,16 @@ public class ApplicationServiceImpl implements ApplicationService {
 		application.setCreatedAt(ZonedDateTime.now());
 		application.setUpdatedAt(ZonedDateTime.now());
 
-		Application savedApplication = applicationRepository.save(application);
+		Application savedApplication;
+		try {
+			savedApplication = applicationRepository.save(application);
+		} catch (DataIntegrityViolationException e) {
+			if (isActiveApplicationConflict(e)) {
+				log.info("Concurrent duplicate application for job ID: {} by candidate ID: {}", job.getId(), candidateId);
+				throw new ResourceAlreadyExistsException(ALREADY_APPLIED);
+			}
+			throw e;
+		}
 
 		// Save the application answers
 		List<ApplicationAnswer> answers = new ArrayList<>();
@@ -165,44 +218,10 @@ public class ApplicationServiceImpl implements ApplicationService {
 			savedApplication.setAnswers(answers);
 		}
 
-		if (!filesToDeleteOnRollback.isEmpty()) {
-			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-				@Override
-				public void afterCompletion(int status) {
-					if (status == STATUS_ROLLED_BACK) {
-						for (String fileUrl : filesToDeleteOnRollback) {
-							try {
-								String filename = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
-								fileStorageService.deleteFile(filename);
-							} catch (Exception e) {
-								log.error("failed to delete file with name: {}", fileUrl);
-							}
-						}
-					}
-				}
-			});
-		}
-
-		// Send application received email using event-based system
-		try {
-			emailService.sendApplicationEmail(savedApplication, EmailEvent.APPLICATION_RECEIVED);
-			log.info("Application received email sent for application ID: {}", savedApplication.getId());
-		} catch (Exception e) {
-			log.error("Failed to send application received email for application ID: {}: {}", savedApplication.getId(),
-					e.getMessage());
-			// Don't fail the entire operation if email fails
-		}
-
-		// Trigger resume analysis asynchronously if resume URL is provided
+		// The email goes out from the outbox and the analysis from its queue, both only once this transaction has committed
+		outboxService.enqueue(OutboxEventType.APPLICATION_RECEIVED_EMAIL, savedApplication.getId());
 		if (savedApplication.getResumeUrl() != null && !savedApplication.getResumeUrl().trim().isEmpty()) {
-			log.info("Triggering resume analysis for application ID: {}", savedApplication.getId());
-			resumeAnalysisService.analyzeAndUpdateApplication(savedApplication, job).thenAccept(updatedApplication -> {
-				log.info("Resume analysis completed for application ID: {}", updatedApplication.getId());
-			}).exceptionally(throwable -> {
-				log.error("Resume analysis failed for application ID: {}: {}", savedApplication.getId(),
-						throwable.getMessage());
-				return null;
-			});
+			resumeAnalysisQueue.enqueue(savedApplication.getId());
 		}
 
 		log.info("Application submitted successfully with ID: {}", savedApplication.getId());
@@ -229,7 +248,7 @@ public class ApplicationServiceImpl implements ApplicationService {
 		}
 
 		Page<Application> applications = applicationRepository.findByJobId(jobId, pageable);
-		return applications.map(this::mapToDTO);
+		return mapPageToDTO(applications);
 	}
 
 	@Override
@@ -243,7 +262,7 @@ public class ApplicationServiceImpl implements ApplicationService {
 		}
 
 		Page<Application> applications = applicationRepository.findByJobIdAndStatus(jobId, status, pageable);
-		return applications.map(this::mapToDTO);
+		return mapPageToDTO(applications);
 	}
 
 	@Override
@@ -256,7 +275,16 @@ public class ApplicationServiceImpl implements ApplicationService {
 		}
 
 		Page<Application> applications = applicationRepository.findByCandidateId(candidateId, pageable);
-		return applications.map(this::mapToDTO);
+		return mapPageToDTO(applications);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<CandidateApplicationSummaryDTO> getCandidateApplicationSummaries(Long candidateId, Pageable pageable) {
+		log.info("Getting application summaries for candidate ID: {}", candidateId);
+
+		// The candidate is the authenticated user, so there is no existence check to pay for
+		return applicationRepository.findCandidateApplications(candidateId, pageable);
 	}
 
 	@Override
@@ -270,12 +298,50 @@ public class ApplicationServiceImpl implements ApplicationService {
 
 		Page<Application> applications;
 		if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-			applications = applicationRepository.findByJobIdWithSearch(jobId, searchTerm.trim(), pageable);
+			// Results are ranked by similarity, so only the page position of the request is kept
+			String term = searchTerm.trim().toLowerCase(Locale.ROOT);
+			applications = applicationRepository.findByJobIdWithSearch(jobId, term, escapeLikePattern(term),
+					PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 		} else {
 			applications = applicationRepository.findByJobId(jobId, pageable);
 		}
 		
-		return applications.map(this::mapToDTO);
+		return mapPageToDTO(applications);
+	}
+
+	@Override
+	public CursorPageDTO<ApplicantSummaryDTO> getApplicantsPage(Long jobId, ApplicationStatus status,
+			ApplicantSort sort, String cursor, Integer size) {
+		ApplicantSort order = sort != null ? sort : ApplicantSort.DATE;
+		int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+		ApplicantCursor after = ApplicantCursor.decode(cursor, order);
+
+		// Only check the job on the first page; later pages already proved it exists
+		if (after == null && !jobRepository.existsById(jobId)) {
+			throw new NotFoundException("Job not found with ID: " + jobId);
+		}
+
+		// Fetch one extra row to know whether another page exists without a count query
+		List<ApplicantSummaryDTO> rows = applicationRepository.findApplicantPage(jobId, status, order, after,
+				pageSize + 1);
+		boolean hasMore = rows.size() > pageSize;
+		if (hasMore) {
+			rows = rows.subList(0, pageSize);
+		}
+
+		String nextCursor = hasMore ? ApplicantCursor.after(order, rows.get(rows.size() - 1)).encode() : null;
+		return new CursorPageDTO<>(rows, nextCursor, hasMore, pageSize);
+	}
+
+	@Override
+	public List<ApplicantSummaryDTO> getTopApplicants(Long jobId, ApplicationStatus status, ResumeScore score,
+			Integer limit) {
+		if (!jobRepository.existsById(jobId)) {
+			throw new NotFoundException("Job not found with ID: " + jobId);
+		}
+
+		int k = limit == null || limit <= 0 ? defaultPageSize : Math.min(limit, maxPageSize);
+		return applicationRepository.findTopApplicants(jobId, status, score != null ? score : ResumeScore.OVERALL, k);
 	}
 
 	@Override
@@ -326,6 +392,70 @@ public class ApplicationServiceImpl implements ApplicationService {
 		return mapToDTO(updatedApplication);
 	}
 
+	@Override
+	@Transactional
+	public BulkStatusUpdateResultDTO bulkUpdateStatus(BulkStatusUpdateRequest request) {
+		ApplicationStatus newStatus = request.getStatus();
+		log.info("Bulk updating {} applications to status {}", request.getItems().size(), newStatus);
+
+		// Later duplicates of an id are ignored; the first one decides its expected version
+		Map<Long, Long> expectedVersions = new LinkedHashMap<>();
+		for (BulkStatusUpdateRequest.Item item : request.getItems()) {
+			expectedVersions.putIfAbsent(item.getId(), item.getVersion());
+		}
+
+		Map<Long, BulkStatusUpdateResultDTO.ItemResult> outcomes = applicationRepository
+				.updateStatuses(newStatus, expectedVersions).stream()
+				.collect(Collectors.toMap(BulkStatusUpdateResultDTO.ItemResult::getId, result -> result));
+
+		BulkStatusUpdateResultDTO response = new BulkStatusUpdateResultDTO();
+		response.setStatus(newStatus);
+		Map<Long, Long> updatedVersions = new LinkedHashMap<>();
+		for (Long id : expectedVersions.keySet()) {
+			BulkStatusUpdateResultDTO.ItemResult result = outcomes.get(id);
+			response.getResults().add(result);
+			if (result.getOutcome() == BulkStatusUpdateResultDTO.Outcome.UPDATED) {
+				updatedVersions.put(id, result.getVersion());
+			}
+		}
+		response.setUpdatedCount(updatedVersions.size());
+
+		// Same emails as single status changes, queued as one batch and sent after commit
+		if (newStatus == ApplicationStatus.REVIEWED) {
+			outboxService.enqueueAll(OutboxEventType.APPLICATION_REVIEWED_EMAIL, updatedVersions);
+		} else if (newStatus == ApplicationStatus.SHORTLISTED) {
+			outboxService.enqueueAll(OutboxEventType.APPLICATION_SHORTLISTED_EMAIL, updatedVersions);
+		}
+
+		log.info("Bulk status update to {} moved {} of {} applications", newStatus, updatedVersions.size(),
+				expectedVersions.size());
+		return response;
+	}
+
+	@Override
+	public Map<Long, Map<ApplicationStatus, Long>> getApplicationStatsByJobIds(Collection<Long> jobIds) {
+		// Initialize all statuses with zero counts
+		Map<Long, Map<ApplicationStatus, Long>> result = new LinkedHashMap<>();
+		for (Long jobId : jobIds) {
+			Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+			for (ApplicationStatus status : ApplicationStatus.values()) {
+				counts.put(status, 0L);
+			}
+			result.put(jobId, counts);
+		}
+		if (result.isEmpty()) {
+			return result;
+		}
+
+		// One indexed lookup per job in job_application_stats, no scan of applications
+		for (Object[] stat : applicationRepository.findStatsByJobIds(result.keySet())) {
+			Long jobId = ((Number) stat[0]).longValue();
+			ApplicationStatus status = ApplicationStatus.valueOf((String) stat[1]);
+			result.get(jobId).put(status, ((Number) stat[2]).longValue());
+		}
+		return result;
+	}
+
 	@Override
 	@Transactional
 	public ApplicationDTO updateApplication(Long applicationId, ApplicationDTO applicationDTO) {
@@ -400,30 +530,14 @@ public class ApplicationServiceImpl implements ApplicationService {
 			throw new NotFoundException("Job not found with ID: " + jobId);
 		}
 
-		List<Object[]> stats = applicationRepository.getApplicationStatsByJobId(jobId);
-		Map<ApplicationStatus, Long> result = new HashMap<>();
-
-		// Initialize all statuses with zero counts
-		for (ApplicationStatus status : ApplicationStatus.values()) {
-			result.put(status, 0L);
-		}
-
-		// Update with actual counts
-		for (Object[] stat : stats) {
-			ApplicationStatus status = (ApplicationStatus) stat[0];
-			Long count = ((Number) stat[1]).longValue();
-			result.put(status, count);
-		}
-
-		return result;
+		return getApplicationStatsByJobIds(List.of(jobId)).get(jobId);
 	}
 
 	@Override
 	public boolean hasApplied(Long jobId, Long candidateId) {
 		log.debug("Checking if candidate ID: {} has applied to job ID: {}", candidateId, jobId);
 
-		Optional<Application> application = applicationRepository.findByJobIdAndCandidateId(jobId, candidateId);
-		return application.isPresent();
+		return applicationRepository.existsByJobIdAndCandidateId(jobId, candidateId);
 	}
 
 	/**
@@ -454,6 +568,15 @@ public class ApplicationServiceImpl implements ApplicationService {
 		}
 	}
 
+	private static boolean isActiveApplicationConflict(DataIntegrityViolationException e) {
+		String message = e.getMostSpecificCause().getMessage();
+		return message != null && message.contains(ACTIVE_APPLICATION_INDEX);
+	}
+
+	private static String escapeLikePattern(String term) {
+		return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
 	/**
 	 * Map an Application entity to an ApplicationDTO
 	 * 
@@ -461,6 +584,29 @@ public class ApplicationServiceImpl implements ApplicationService {
 	 * @return the application DTO
 	 */
 	private ApplicationDTO mapToDTO(Application application) {
+		return mapToDTO(application, application.getAnswers());
+	}
+
+	/**
+	 * Map a page of applications, loading all of their answers with one IN query
+	 * instead of initializing each application's answers collection
+	 */
+	private Page<ApplicationDTO> mapPageToDTO(Page<Application> applications) {
+		if (applications.isEmpty()) {
+			return applications.map(application -> mapToDTO(application, List.of()));
+		}
+
+		List<Long> applicationIds = applications.getContent().stream().map(Application::getId)
+				.collect(Collectors.toList());
+		Map<Long, List<ApplicationAnswer>> answersByApplicationId = applicationAnswerRepository
+				.findByApplicationIdInOrderByIdAsc(applicationIds).stream()
+				.collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+
+		return applications.map(application -> mapToDTO(application,
+				answersByApplicationId.getOrDefault(application.getId(), List.of())));
+	}
+
+	private ApplicationDTO mapToDTO(Application application, List<ApplicationAnswer> answers) {
 		ApplicationDTO dto = new ApplicationDTO();
 		dto.setId(application.getId());
 		dto.setJobId(application.getJob().getId());
@@ -475,12 +621,13 @@ public class ApplicationServiceImpl implements ApplicationService {
 		dto.setExpectedSalary(application.getExpectedSalary());
 		dto.setCreatedAt(application.getCreatedAt());
 		dto.setUpdatedAt(application.getUpdatedAt());
+		dto.setVersion(application.getVersion());
 
 		// Map resume analysis if available
 		dto.setResumeAnalysis(application.getResumeAnalysis());
 
 		// Map application answers
-		List<ApplicationAnswerDTO> answerDTOs = application.getAnswers().stream().map(this::mapAnswerToDTO)
+		List<ApplicationAnswerDTO> answerDTOs = answers.stream().map(this::mapAnswerToDTO)
 				.collect(Collectors.toList());
 		dto.setAnswers(answerDTOs);
 
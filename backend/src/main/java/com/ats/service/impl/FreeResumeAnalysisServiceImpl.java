@@ -5,28 +5,42 @@ import com.ats.model.Application;
 import com.ats.model.Job;
 import com.ats.repository.ApplicationRepository;
 import com.ats.service.ResumeAnalysisService;
+import com.ats.service.ResumeContentCache;
+import com.ats.service.SkillTaxonomyService;
+import com.ats.util.SkillMatcher;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
 import org.apache.tika.exception.TikaException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service("genericResumeAnalysisService")
 @RequiredArgsConstructor
@@ -35,9 +49,21 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
 
     private final ApplicationRepository applicationRepository;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final MeterRegistry meterRegistry;
+    private final ResumeContentCache resumeContentCache;
+    private final SkillTaxonomyService skillTaxonomyService;
     private final Tika tika = new Tika();
 
+    // Built in init() once the timeouts are injected; the health probe gets its own, shorter read timeout
+    private RestTemplate restTemplate;
+    private RestTemplate healthRestTemplate;
+    private AiCircuitBreaker circuitBreaker;
+
+    // Last probe result, reused for healthCacheTtlMs so analyses don't each pay for a round trip
+    private volatile boolean lastProbeHealthy;
+    private volatile long lastProbeAtMillis;
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
     // Generic AI Service Configuration
     @Value("${ai.service.provider:ollama}")
     private String aiProvider;
@@ -75,6 +101,24 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
     @Value("${ai.service.temperature:0.1}")
     private Double temperature;
 
+    @Value("${ai.service.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${ai.service.read-timeout-ms:120000}")
+    private int readTimeoutMs;
+
+    @Value("${ai.service.health.timeout-ms:2000}")
+    private int healthTimeoutMs;
+
+    @Value("${ai.service.health.cache-ttl-ms:30000}")
+    private long healthCacheTtlMs;
+
+    @Value("${ai.service.circuit-breaker.failure-threshold:3}")
+    private int breakerFailureThreshold;
+
+    @Value("${ai.service.circuit-breaker.open-duration:60s}")
+    private Duration breakerOpenDuration;
+
     @Value("${app.uploads.directory:uploads}")
     private String uploadsDirectory;
 
@@ -86,16 +130,35 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
             "text/plain"
     );
 
+    @PostConstruct
+    void init() {
+        restTemplate = new RestTemplate(requestFactory(connectTimeoutMs, readTimeoutMs));
+        healthRestTemplate = new RestTemplate(requestFactory(connectTimeoutMs, healthTimeoutMs));
+        circuitBreaker = new AiCircuitBreaker(aiProvider, breakerFailureThreshold, breakerOpenDuration, Clock.systemUTC());
+
+        for (AiCircuitBreaker.State state : AiCircuitBreaker.State.values()) {
+            Gauge.builder("ai.service.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("1 for the AI backend circuit breaker's current state, 0 otherwise")
+                    .tag("provider", aiProvider)
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(int connectTimeoutMs, int readTimeoutMs) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        return factory;
+    }
+
     @Override
     public ResumeAnalysisDTO analyzeResume(MultipartFile resumeFile, Job job) {
         log.info("Starting resume analysis using {} provider for job: {}", aiProvider, job.getTitle());
         
         try {
-            // Extract text from the resume file
-            String resumeText = extractTextFromResume(resumeFile);
-            
-            // Perform AI analysis using configured provider
-            return performGenericAiAnalysis(resumeText, job);
+            // Extract text and analyze, reusing earlier work on an identical file
+            return analyzeContent(resumeFile.getBytes(), job);
             
         } catch (Exception e) {
             log.error("Error analyzing resume: {}", e.getMessage(), e);
@@ -115,12 +178,9 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
                 actualFilePath = resumeFilePath.substring("/api/files/".length());
             }
             
-            // Read file from path
-            File resumeFile = new File(uploadsDirectory + "/" + actualFilePath);
-            String resumeText = tika.parseToString(resumeFile);
-            
-            // Perform AI analysis
-            return performGenericAiAnalysis(resumeText, job);
+            // Read file from path, then extract text and analyze, reusing earlier work on an identical file
+            byte[] content = Files.readAllBytes(Path.of(uploadsDirectory, actualFilePath));
+            return analyzeContent(content, job);
             
         } catch (Exception e) {
             log.error("Error analyzing resume from path {}: {}", resumeFilePath, e.getMessage(), e);
@@ -128,10 +188,60 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         }
     }
 
+    /**
+     * Analyze resume file content. Files are keyed by SHA-256: a file seen before skips Tika,
+     * and one the current model has already analyzed skips the AI backend and is only re-scored for the job.
+     */
+    private ResumeAnalysisDTO analyzeContent(byte[] content, Job job) throws IOException, TikaException {
+        long startTime = System.currentTimeMillis();
+        String contentHash = HexFormat.of().formatHex(sha256(content));
+        String currentModel = aiProvider + "/" + aiModel;
+        Optional<ResumeContentCache.Entry> cached = resumeContentCache.find(contentHash);
+
+        if (cached.isPresent() && cached.get().analysis() != null && currentModel.equals(cached.get().analysisModel())) {
+            ResumeAnalysisDTO analysis = cached.get().analysis();
+            ResumeAnalysisDTO.AnalysisMetadataDTO metadata = analysis.getAnalysisMetadata();
+            if (metadata != null) {
+                metadata.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+                if (metadata.getProcessingNotes() == null) {
+                    metadata.setProcessingNotes(new ArrayList<>());
+                }
+                metadata.getProcessingNotes().add("Reused analysis of an identical resume");
+            }
+            log.info("Reusing cached analysis for resume {} ({})", contentHash, currentModel);
+            return rescoreForJob(analysis, job);
+        }
+
+        String resumeText;
+        if (cached.isPresent()) {
+            resumeText = cached.get().extractedText();
+        } else {
+            resumeText = tika.parseToString(new ByteArrayInputStream(content));
+            resumeContentCache.saveText(contentHash, resumeText);
+        }
+
+        ResumeAnalysisDTO analysis = performGenericAiAnalysis(resumeText, job);
+
+        // Only AI results are worth keeping; the NLP fallback is cheap and should be retried with AI later
+        if (analysis.getAnalysisMetadata() != null && currentModel.equals(analysis.getAnalysisMetadata().getAiModelUsed())) {
+            resumeContentCache.saveAnalysis(contentHash, analysis, currentModel);
+        }
+        return analysis;
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     @Override
     @Async("resumeAnalysisExecutor")
     public CompletableFuture<ResumeAnalysisDTO> analyzeResumeAsync(String resumeFilePath, Job job) {
-        return CompletableFuture.supplyAsync(() -> analyzeResume(resumeFilePath, job));
+        // Already on the resume analysis executor; a nested supplyAsync would hop onto the common pool
+        return CompletableFuture.completedFuture(analyzeResume(resumeFilePath, job));
     }
 
     @Override
@@ -143,28 +253,26 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
     @Override
     @Async("resumeAnalysisExecutor")
     public CompletableFuture<Application> analyzeAndUpdateApplication(Application application, Job job) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Analyze the resume
-                ResumeAnalysisDTO analysis = analyzeResume(application.getResumeUrl(), job);
-                
-                // Update application
-                return updateApplicationWithAnalysis(application, analysis);
-                
-            } catch (Exception e) {
-                log.error("Error in analyzeAndUpdateApplication: {}", e.getMessage(), e);
-                // Return application with error analysis
-                ResumeAnalysisDTO errorAnalysis = createErrorAnalysis(e.getMessage());
-                return updateApplicationWithAnalysis(application, errorAnalysis);
-            }
-        });
+        try {
+            // Analyze the resume
+            ResumeAnalysisDTO analysis = analyzeResume(application.getResumeUrl(), job);
+
+            // Update application
+            return CompletableFuture.completedFuture(updateApplicationWithAnalysis(application, analysis));
+
+        } catch (Exception e) {
+            log.error("Error in analyzeAndUpdateApplication: {}", e.getMessage(), e);
+            // Return application with error analysis
+            ResumeAnalysisDTO errorAnalysis = createErrorAnalysis(e.getMessage());
+            return CompletableFuture.completedFuture(updateApplicationWithAnalysis(application, errorAnalysis));
+        }
     }
 
     @Override
     public ResumeAnalysisDTO rescoreForJob(ResumeAnalysisDTO existingAnalysis, Job job) {
         try {
             // Create a new scoring based on the job
-            ResumeAnalysisDTO.ResumeScoreDTO newScore = calculateJobMatchScore(existingAnalysis, job);
+            ResumeAnalysisDTO.ResumeScoreDTO newScore = scoreForJob(existingAnalysis, job);
             
             // Update the analysis with new score
             existingAnalysis.setResumeScore(newScore);
@@ -184,6 +292,11 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         }
     }
 
+    @Override
+    public ResumeAnalysisDTO.ResumeScoreDTO scoreForJob(ResumeAnalysisDTO analysis, Job job) {
+        return calculateJobMatchScore(analysis, job);
+    }
+
     @Override
     public String extractTextFromResume(MultipartFile resumeFile) {
         try {
@@ -211,11 +324,19 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         long startTime = System.currentTimeMillis();
         
         try {
+            // While the breaker is open, go straight to traditional NLP instead of waiting on a dead backend
+            if (!circuitBreaker.allowRequest()) {
+                log.debug("{} circuit breaker is open, using traditional NLP analysis", aiProvider);
+                countAiCall("short_circuited");
+                return performTraditionalNlpAnalysis(resumeText, job, startTime);
+            }
+
             // Check if AI service is available, fallback to traditional NLP if not
             if (isAiServiceAvailable()) {
                 return performAiAnalysis(resumeText, job, startTime);
             } else {
                 log.warn("{} AI service not available, using traditional NLP analysis", aiProvider);
+                countAiCall("unavailable");
                 return performTraditionalNlpAnalysis(resumeText, job, startTime);
             }
             
@@ -254,7 +375,31 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         }
     }
 
+    /**
+     * Probe the health endpoint, reusing a recent result. A half-open breaker always probes,
+     * and concurrent callers reuse the last result rather than probing together. Only a probe
+     * that actually ran reports to the breaker, so one outage is not counted once per analysis.
+     */
     private boolean isAiServiceAvailable() {
+        boolean fresh = System.currentTimeMillis() - lastProbeAtMillis < healthCacheTtlMs;
+        if ((fresh && circuitBreaker.getState() != AiCircuitBreaker.State.HALF_OPEN)
+                || !probeInFlight.compareAndSet(false, true)) {
+            return lastProbeHealthy;
+        }
+
+        try {
+            lastProbeHealthy = probeAiService();
+            lastProbeAtMillis = System.currentTimeMillis();
+            if (!lastProbeHealthy) {
+                circuitBreaker.recordFailure();
+            }
+            return lastProbeHealthy;
+        } finally {
+            probeInFlight.set(false);
+        }
+    }
+
+    private boolean probeAiService() {
         try {
             String url = aiBaseUrl + healthEndpoint;
             
@@ -262,7 +407,7 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
             HttpHeaders headers = createHttpHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = healthRestTemplate.exchange(url, HttpMethod.GET, entity, String.class);
             return response.getStatusCode() == HttpStatus.OK;
         } catch (Exception e) {
             log.debug("{} AI service not available: {}", aiProvider, e.getMessage());
@@ -283,13 +428,24 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         
         try {
             ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
+            circuitBreaker.recordSuccess();
+            countAiCall("success");
             Map<String, Object> responseBody = response.getBody();
             return extractResponseText(responseBody);
+        } catch (RestClientException e) {
+            // Timeouts, refused connections and error statuses all count against the backend
+            circuitBreaker.recordFailure();
+            countAiCall("failure");
+            throw new RuntimeException("Failed to call " + aiProvider + " API: " + e.getMessage(), e);
         } catch (Exception e) {
             throw new RuntimeException("Failed to call " + aiProvider + " API: " + e.getMessage(), e);
         }
     }
 
+    private void countAiCall(String outcome) {
+        meterRegistry.counter("ai.service.calls", "provider", aiProvider, "outcome", outcome).increment();
+    }
+
     private Map<String, Object> createRequestPayload(String prompt) {
         Map<String, Object> request = new HashMap<>();
         
@@ -565,17 +721,8 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
     }
 
     private List<String> extractSkills(String text) {
-        // Common technical skills
-        List<String> allSkills = Arrays.asList(
-                "Java", "Python", "JavaScript", "React", "Angular", "Vue", "Spring", "Node.js",
-                "SQL", "PostgreSQL", "MySQL", "MongoDB", "Docker", "Kubernetes", "AWS", "Azure",
-                "Git", "HTML", "CSS", "TypeScript", "C++", "C#", ".NET", "PHP", "Ruby", "Go",
-                "Machine Learning", "AI", "Data Science", "DevOps", "Agile", "Scrum"
-        );
-        
-        return allSkills.stream()
-                .filter(skill -> text.toLowerCase().contains(skill.toLowerCase()))
-                .toList();
+        // Single pass over the resume against the admin-managed skill taxonomy
+        return skillTaxonomyService.getMatcher().findSkills(text);
     }
 
     private List<ResumeAnalysisDTO.EducationDTO> extractEducation(String text) {
@@ -625,13 +772,14 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
 
     private ResumeAnalysisDTO.ResumeScoreDTO calculateJobMatchScore(ResumeAnalysisDTO analysis, Job job) {
         try {
-            // Extract required skills from job description
-            List<String> requiredSkills = extractRequiredSkills(job.getDescription());
+            // Extract required skills from the job's description and skill list
+            SkillMatcher skillMatcher = skillTaxonomyService.getMatcher();
+            List<String> requiredSkills = extractRequiredSkills(skillMatcher, job);
             List<String> candidateSkills = analysis.getSkillsExtracted() != null ? 
                 analysis.getSkillsExtracted() : new ArrayList<>();
             
             // Calculate various scoring metrics
-            BigDecimal skillsMatchRatio = calculateSkillsMatchRatio(requiredSkills, candidateSkills);
+            BigDecimal skillsMatchRatio = calculateSkillsMatchRatio(skillMatcher, requiredSkills, candidateSkills);
             BigDecimal experienceMatch = calculateExperienceMatch(analysis.getTotalExperienceYears(), job);
             
             // Calculate scores (0-100)
@@ -658,26 +806,28 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
         }
     }
 
-    private List<String> extractRequiredSkills(String jobDescription) {
-        // Simple skill extraction from job description
-        List<String> commonSkills = Arrays.asList(
-                "Java", "Python", "JavaScript", "React", "Angular", "Spring", "Node.js", "SQL", "AWS", "Docker"
-        );
-        
-        return commonSkills.stream()
-                .filter(skill -> jobDescription.toLowerCase().contains(skill.toLowerCase()))
-                .collect(Collectors.toList());
+    private List<String> extractRequiredSkills(SkillMatcher skillMatcher, Job job) {
+        List<String> sources = new ArrayList<>();
+        if (job.getDescription() != null) {
+            sources.add(job.getDescription());
+        }
+        if (job.getSkills() != null) {
+            sources.addAll(job.getSkills());
+        }
+        // Separated by punctuation so a phrase can't be matched across two entries
+        return skillMatcher.findSkills(String.join(", ", sources));
     }
 
-    private BigDecimal calculateSkillsMatchRatio(List<String> requiredSkills, List<String> candidateSkills) {
+    private BigDecimal calculateSkillsMatchRatio(SkillMatcher skillMatcher, List<String> requiredSkills, List<String> candidateSkills) {
         if (requiredSkills.isEmpty()) {
             return BigDecimal.valueOf(0.8); // Default if no specific skills required
         }
         
+        // Map the candidate's skills (possibly free text from the AI) onto canonical names once, then look each up
+        Set<String> canonicalCandidateSkills = new HashSet<>(skillMatcher.findSkills(String.join(", ", candidateSkills)));
         long matchingSkills = requiredSkills.stream()
-                .mapToLong(required -> candidateSkills.stream()
-                        .anyMatch(candidate -> candidate.toLowerCase().contains(required.toLowerCase())) ? 1 : 0)
-                .sum();
+                .filter(canonicalCandidateSkills::contains)
+                .count();
                 
         return BigDecimal.valueOf((double) matchingSkills / requiredSkills.size());
     }
@@ -727,7 +877,7 @@ public class FreeResumeAnalysisServiceImpl implements ResumeAnalysisService {
                 .resumeScore(createDefaultScoring())
                 .analysisMetadata(ResumeAnalysisDTO.AnalysisMetadataDTO.builder()
                         .processedAt(LocalDateTime.now())
-                        .aiModelUsed("error")
+                        .aiModelUsed(ResumeAnalysisDTO.ERROR_MODEL)
                         .confidenceScore(BigDecimal.ZERO)
                         .processingTimeMs(0L)
                         .processingNotes(Arrays.asList("Error: " + errorMessage))
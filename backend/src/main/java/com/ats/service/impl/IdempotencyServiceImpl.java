@@ -0,0 +1,89 @@
+package com.ats.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ats.service.IdempotencyService;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    // Inserts a new key or takes over an expired one; a live key is left alone and reports 0 rows.
+    // An in-progress key expires with its short lease, so a claim lost with a crashed replica frees up quickly.
+    private static final String CLAIM_SQL =
+        "INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, expires_at) " +
+        "VALUES (?, ?, ?, CURRENT_TIMESTAMP + make_interval(secs => ?)) " +
+        "ON CONFLICT (scope, idempotency_key) DO UPDATE " +
+        "SET request_hash = EXCLUDED.request_hash, response_status = NULL, response_body = NULL, " +
+        "    created_at = CURRENT_TIMESTAMP, expires_at = EXCLUDED.expires_at " +
+        "WHERE idempotency_keys.expires_at < CURRENT_TIMESTAMP";
+
+    private static final String FIND_SQL =
+        "SELECT request_hash, response_status, response_body FROM idempotency_keys " +
+        "WHERE scope = ? AND idempotency_key = ?";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE idempotency_keys SET response_status = ?, response_body = ?, " +
+        "    expires_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+        "WHERE scope = ? AND idempotency_key = ?";
+
+    private static final String RELEASE_SQL =
+        "DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ? AND response_status IS NULL";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.lease:2m}")
+    private Duration lease;
+
+    @Override
+    public Claim begin(String scope, String key, String requestHash) {
+        if (jdbcTemplate.update(CLAIM_SQL, scope, key, requestHash, lease.toSeconds()) == 1) {
+            return new Claim(State.CLAIMED, null, null);
+        }
+
+        List<Claim> existing = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            if (!requestHash.equals(rs.getString("request_hash"))) {
+                return new Claim(State.MISMATCH, null, null);
+            }
+            int status = rs.getInt("response_status");
+            return rs.wasNull()
+                ? new Claim(State.IN_PROGRESS, null, null)
+                : new Claim(State.COMPLETED, status, rs.getString("response_body"));
+        }, scope, key);
+
+        // Released between the two statements: the caller may simply retry
+        return existing.isEmpty() ? new Claim(State.IN_PROGRESS, null, null) : existing.get(0);
+    }
+
+    @Override
+    public void complete(String scope, String key, int responseStatus, String responseBody) {
+        jdbcTemplate.update(COMPLETE_SQL, responseStatus, responseBody, ttl.toSeconds(), scope, key);
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        jdbcTemplate.update(RELEASE_SQL, scope, key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < CURRENT_TIMESTAMP");
+        if (purged > 0) {
+            logger.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.ats.service.impl;
+
+import com.ats.dto.JobDTO;
+import com.ats.event.JobChangedEvent;
+import com.ats.event.JobsExpiredEvent;
+import com.ats.mapper.JobMapper;
+import com.ats.model.Job;
+import com.ats.model.JobCustomQuestion;
+import com.ats.model.JobStatus;
+import com.ats.model.RegionView;
+import com.ats.repository.JobRepository;
+import com.ats.service.JobBoardSnapshotService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static com.ats.repository.JobSpecifications.hasStatusIn;
+import static com.ats.repository.JobSpecifications.inRegionView;
+
+@Service
+public class JobBoardSnapshotServiceImpl implements JobBoardSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobBoardSnapshotServiceImpl.class);
+
+    private static final List<JobStatus> ACTIVE_STATUSES = List.of(JobStatus.PUBLISHED, JobStatus.REOPENED);
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    // <hash>.json, <hash>.json.gz and the temporary files they are written through
+    private static final Pattern FILE_PATTERN = Pattern.compile("([0-9a-f]{64})\\.json(\\.gz)?(\\.[0-9]+\\.tmp)?");
+    private static final String LIST_KEY_PREFIX = "jobs:";
+    private static final String JOB_KEY_PREFIX = "job:";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate readTransaction;
+
+    // Current snapshot per document key, and every current snapshot by hash
+    private final Map<String, Rendered> current = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> byHash = new ConcurrentHashMap<>();
+
+    // Orders renders so one that started earlier never replaces one that started later
+    private final AtomicLong renderSequence = new AtomicLong();
+    // Keys being re-rendered because they went stale; other readers keep the old snapshot meanwhile
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // Hashes each key served before its current snapshot, newest first; their files are kept on disk
+    // for clients still holding an older list, and deleted once they fall out of retention
+    private final Map<String, Deque<String>> previousHashes = new ConcurrentHashMap<>();
+
+    @Value("${app.jobs.snapshot.directory:}")
+    private String directory;
+
+    // Job changes made on other replicas only reach this one's snapshots by expiry
+    @Value("${app.jobs.snapshot.max-age:60s}")
+    private Duration maxAge;
+
+    @Value("${app.jobs.snapshot.retained-versions:5}")
+    private int retainedVersions;
+
+    // Files this replica does not know about (e.g. left by an earlier run) are deleted once this old
+    @Value("${app.jobs.snapshot.file-retention:7d}")
+    private Duration fileRetention;
+
+    /**
+     * A snapshot with the sequence number and start time of the render that produced it
+     */
+    private static final class Rendered {
+
+        private final Snapshot snapshot;
+        private final long sequence;
+        private final long startedAtNanos;
+
+        private Rendered(Snapshot snapshot, long sequence, long startedAtNanos) {
+            this.snapshot = snapshot;
+            this.sequence = sequence;
+            this.startedAtNanos = startedAtNanos;
+        }
+    }
+
+    public JobBoardSnapshotServiceImpl(PlatformTransactionManager transactionManager) {
+        // Renders may run after another transaction commits, so always use a fresh one
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Snapshot getActiveJobs(RegionView view) {
+        return serve(listKey(view), () -> renderActiveJobs(view));
+    }
+
+    @Override
+    public Optional<Snapshot> getJob(Long jobId) {
+        return Optional.ofNullable(serve(jobKey(jobId), () -> renderJob(jobId)));
+    }
+
+    @Override
+    public Optional<Snapshot> getByHash(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+
+        Snapshot snapshot = byHash.get(hash);
+        if (snapshot != null || directory.isBlank()) {
+            return Optional.ofNullable(snapshot);
+        }
+
+        try {
+            Path json = Paths.get(directory, hash + ".json");
+            Path gzip = Paths.get(directory, hash + ".json.gz");
+            if (!Files.exists(json)) {
+                return Optional.empty();
+            }
+            return Optional.of(new Snapshot(hash, Files.readAllBytes(json),
+                Files.exists(gzip) ? Files.readAllBytes(gzip) : gzip(Files.readAllBytes(json))));
+        } catch (IOException e) {
+            logger.warn("Failed to read job board snapshot {}: {}", hash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Serve the current snapshot for a key, rendering it if there is none or it is older than the max age.
+     * Only one caller re-renders a stale snapshot; the others are served the stale one until it is replaced.
+     */
+    private Snapshot serve(String key, Supplier<Snapshot> render) {
+        Rendered rendered = current.get(key);
+        if (rendered == null) {
+            return render.get();
+        }
+        if (System.nanoTime() - rendered.startedAtNanos < maxAge.toNanos() || !refreshing.add(key)) {
+            return rendered.snapshot;
+        }
+        try {
+            return render.get();
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Re-render the documents that can contain the changed job, if they were rendered before
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        RegionView regionView = "EU".equals(event.getRegion()) ? RegionView.EU : RegionView.NON_EU;
+        refreshActiveJobs(RegionView.UNRESTRICTED);
+        refreshActiveJobs(regionView);
+        refreshJob(event.getJobId());
+    }
+
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        for (RegionView view : RegionView.values()) {
+            refreshActiveJobs(view);
+        }
+        event.getJobIds().forEach(this::refreshJob);
+    }
+
+    private void refreshActiveJobs(RegionView view) {
+        if (current.containsKey(listKey(view))) {
+            safely(listKey(view), () -> renderActiveJobs(view));
+        }
+    }
+
+    private void refreshJob(Long jobId) {
+        if (current.containsKey(jobKey(jobId))) {
+            safely(jobKey(jobId), () -> renderJob(jobId));
+        }
+    }
+
+    /**
+     * Run a re-render; on failure drop the document so the next request renders it again
+     */
+    private void safely(String key, Runnable render) {
+        try {
+            render.run();
+        } catch (RuntimeException e) {
+            logger.error("Failed to re-render job board snapshot {}: {}", key, e.getMessage(), e);
+            install(key, renderSequence.incrementAndGet(), System.nanoTime(), null);
+        }
+    }
+
+    // Renders run outside the map's locks; only the swap in install() holds the key's bin
+
+    private Snapshot renderActiveJobs(RegionView view) {
+        long sequence = renderSequence.incrementAndGet();
+        long startedAt = System.nanoTime();
+        List<JobDTO> jobs = readTransaction.execute(status -> jobRepository.findAll(
+                inRegionView(view).and(hasStatusIn(ACTIVE_STATUSES)),
+                Sort.by(Sort.Order.desc("postedDate"), Sort.Order.desc("id")))
+            .stream()
+            .map(jobMapper::toDTO)
+            .collect(Collectors.toList()));
+        return install(listKey(view), sequence, startedAt, store(jobs));
+    }
+
+    private Snapshot renderJob(Long jobId) {
+        long sequence = renderSequence.incrementAndGet();
+        long startedAt = System.nanoTime();
+        JobDTO job = readTransaction.execute(status -> {
+            List<Object[]> rows = jobRepository.findDetailRowsById(jobId);
+            if (rows.isEmpty() || !ACTIVE_STATUSES.contains(((Job) rows.get(0)[0]).getJobStatus())) {
+                return null;
+            }
+            List<JobCustomQuestion> questions = rows.stream()
+                    .map(row -> (JobCustomQuestion) row[1])
+                    .filter(question -> question != null)
+                    .collect(Collectors.toList());
+            return jobMapper.toDetailDTO((Job) rows.get(0)[0], questions);
+        });
+        return install(jobKey(jobId), sequence, startedAt, job != null ? store(job) : null);
+    }
+
+    /**
+     * Swap in a rendered snapshot, or remove the key if it is null, unless a render that
+     * started later has already been installed; returns whichever snapshot is now current
+     */
+    private Snapshot install(String key, long sequence, long startedAtNanos, Snapshot snapshot) {
+        Snapshot[] replaced = new Snapshot[1];
+        Rendered installed = current.compute(key, (k, previous) -> {
+            if (previous != null && previous.sequence > sequence) {
+                return previous;
+            }
+            Rendered next = snapshot != null ? new Rendered(snapshot, sequence, startedAtNanos) : null;
+            replaced[0] = previous != null ? previous.snapshot : null;
+            swap(replaced[0], snapshot);
+            return next;
+        });
+
+        if (replaced[0] != null && (snapshot == null || !replaced[0].getHash().equals(snapshot.getHash()))) {
+            retire(key, replaced[0].getHash());
+        }
+        return installed != null ? installed.snapshot : null;
+    }
+
+    private void swap(Snapshot previous, Snapshot next) {
+        if (previous != null && (next == null || !previous.getHash().equals(next.getHash()))) {
+            byHash.remove(previous.getHash());
+        }
+        if (next != null) {
+            byHash.put(next.getHash(), next);
+        }
+    }
+
+    /**
+     * Remember a key's replaced hash, deleting the files of hashes that fall out of its retention
+     * and are not current or retained for any other key
+     */
+    private void retire(String key, String hash) {
+        if (directory.isBlank()) {
+            return;
+        }
+
+        Deque<String> previous = previousHashes.computeIfAbsent(key, k -> new ArrayDeque<>());
+        List<String> evicted = new ArrayList<>();
+        synchronized (previous) {
+            previous.remove(hash);
+            previous.addFirst(hash);
+            while (previous.size() > retainedVersions) {
+                evicted.add(previous.removeLast());
+            }
+        }
+        evicted.stream()
+            .filter(evictedHash -> !isRetained(evictedHash))
+            .forEach(evictedHash -> {
+                deleteQuietly(Paths.get(directory, evictedHash + ".json"));
+                deleteQuietly(Paths.get(directory, evictedHash + ".json.gz"));
+            });
+    }
+
+    private boolean isRetained(String hash) {
+        if (byHash.containsKey(hash)) {
+            return true;
+        }
+        for (Deque<String> hashes : previousHashes.values()) {
+            synchronized (hashes) {
+                if (hashes.contains(hash)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delete snapshot files this replica neither serves nor retains once they are older than the
+     * file retention, such as those left behind by a previous run or an interrupted write
+     */
+    @Scheduled(cron = "${app.jobs.snapshot.cleanup-cron:0 15 4 * * *}")
+    public void deleteStaleFiles() {
+        if (directory.isBlank() || !Files.isDirectory(Paths.get(directory))) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(fileRetention);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(directory))) {
+            for (Path file : files) {
+                Matcher matcher = FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches() && !isRetained(matcher.group(1))
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)
+                        && deleteQuietly(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to clean up job board snapshots in {}: {}", directory, e.getMessage());
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} stale job board snapshot files", deleted);
+        }
+    }
+
+    /**
+     * Serialize a document, compute its content hash and persist it to disk if configured
+     */
+    private Snapshot store(Object document) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(document);
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+            Snapshot snapshot = new Snapshot(hash, json, gzip(json));
+
+            if (!directory.isBlank()) {
+                writeAtomically(Paths.get(directory, hash + ".json"), snapshot.getJson());
+                writeAtomically(Paths.get(directory, hash + ".json.gz"), snapshot.getGzip());
+            }
+            return snapshot;
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to render job board snapshot", e);
+        }
+    }
+
+    /**
+     * Write a snapshot file unless an intact copy is already there. The content goes to a temporary
+     * file in the same directory and is renamed into place, so a crash or a concurrent write by
+     * another replica can never leave a truncated file under the final name.
+     */
+    private void writeAtomically(Path path, byte[] content) {
+        Path temp = null;
+        try {
+            if (Files.exists(path) && Files.size(path) == content.length) {
+                return;
+            }
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(path.getParent(), path.getFileName() + ".", ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The in-memory copy is still served, so a failed write only loses the disk fallback
+            logger.warn("Failed to write job board snapshot {}: {}", path, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private boolean deleteQuietly(Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete job board snapshot file {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String listKey(RegionView view) {
+        return LIST_KEY_PREFIX + view;
+    }
+
+    private static String jobKey(Long jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+}
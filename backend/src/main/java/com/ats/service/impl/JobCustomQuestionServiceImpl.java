@@ -1,10 +1,22 @@
 package com.ats.service.impl;
 
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +37,12 @@ import org.slf4j.LoggerFactory;
 public class JobCustomQuestionServiceImpl implements JobCustomQuestionService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobCustomQuestionServiceImpl.class);
+
+    private static final String INSERT_QUESTION_SQL =
+        "INSERT INTO job_custom_questions (job_id, question_text, question_type, options, is_required, is_visible, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private static final String DELETE_QUESTION_SQL = "DELETE FROM job_custom_questions WHERE id = ?";
     
     @Autowired
     private JobCustomQuestionRepository jobCustomQuestionRepository;
@@ -37,6 +55,9 @@ public class JobCustomQuestionServiceImpl implements JobCustomQuestionService {
 
     @Autowired
     private ModelMapperUtil modelMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
     
     @Override
     @Transactional
@@ -106,6 +127,105 @@ public class JobCustomQuestionServiceImpl implements JobCustomQuestionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public List<JobCustomQuestionDTO> syncCustomQuestions(Long jobId, List<JobCustomQuestionDTO> questions) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new NotFoundException("Job not found with id: " + jobId);
+        }
+        
+        Map<Long, JobCustomQuestion> existingById = jobCustomQuestionRepository.findByJobIdOrderByIdAsc(jobId).stream()
+                .collect(Collectors.toMap(JobCustomQuestion::getId, q -> q));
+        
+        // Split the requested list into kept questions and new ones (no update functionality for kept ones)
+        Set<Long> keptIds = new HashSet<>();
+        List<JobCustomQuestionDTO> toInsert = new ArrayList<>();
+        for (JobCustomQuestionDTO question : questions) {
+            if (question.getId() != null && existingById.containsKey(question.getId())) {
+                keptIds.add(question.getId());
+            } else {
+                toInsert.add(question);
+            }
+        }
+        
+        // Removed questions that already have answers cannot be deleted
+        List<Long> toDelete = existingById.keySet().stream()
+                .filter(id -> !keptIds.contains(id))
+                .collect(Collectors.toList());
+        if (!toDelete.isEmpty()) {
+            List<Long> answeredIds = applicationAnswerRepository.findAnsweredQuestionIds(toDelete);
+            if (!answeredIds.isEmpty()) {
+                logger.warn("Cannot delete custom questions {} for job ID: {} - they have answers from applicants", answeredIds, jobId);
+                keptIds.addAll(answeredIds);
+                toDelete.removeAll(answeredIds);
+            }
+        }
+        
+        if (!toDelete.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_QUESTION_SQL, toDelete, toDelete.size(), (ps, id) -> ps.setLong(1, id));
+        }
+        
+        List<JobCustomQuestionDTO> result = keptIds.stream()
+                .map(id -> modelMapper.map(existingById.get(id), JobCustomQuestionDTO.class))
+                .collect(Collectors.toCollection(ArrayList::new));
+        result.addAll(insertQuestions(jobId, toInsert));
+        result.sort(Comparator.comparing(JobCustomQuestionDTO::getId));
+        
+        logger.info("Synced custom questions for job ID: {} - {} kept, {} created, {} deleted",
+                jobId, result.size() - toInsert.size(), toInsert.size(), toDelete.size());
+        return result;
+    }
+    
+    /**
+     * Insert new questions for a job in one JDBC batch
+     * 
+     * @return the inserted questions with their generated IDs
+     */
+    private List<JobCustomQuestionDTO> insertQuestions(Long jobId, List<JobCustomQuestionDTO> questions) {
+        if (questions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_QUESTION_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    JobCustomQuestionDTO question = questions.get(i);
+                    Array options = question.getOptions() != null
+                            ? ps.getConnection().createArrayOf("text", question.getOptions().toArray())
+                            : null;
+                    ps.setLong(1, jobId);
+                    ps.setString(2, question.getQuestionText());
+                    ps.setString(3, question.getQuestionType() != null ? question.getQuestionType().name() : null);
+                    ps.setArray(4, options);
+                    ps.setBoolean(5, Boolean.TRUE.equals(question.getRequired()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return questions.size();
+                }
+            },
+            keyHolder);
+        
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<JobCustomQuestionDTO> inserted = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            JobCustomQuestionDTO question = questions.get(i);
+            JobCustomQuestionDTO dto = new JobCustomQuestionDTO();
+            dto.setId(((Number) keys.get(i).get("id")).longValue());
+            dto.setJobId(jobId);
+            dto.setQuestionText(question.getQuestionText());
+            dto.setQuestionType(question.getQuestionType());
+            dto.setOptions(question.getOptions());
+            dto.setRequired(Boolean.TRUE.equals(question.getRequired()));
+            inserted.add(dto);
+        }
+        return inserted;
+    }
+
     @Override
     public JobCustomQuestionDTO getCustomQuestionbyId(Long customQuestionId) {
         logger.info("Fetching custom question with ID: {}", customQuestionId);
@@ -0,0 +1,288 @@
+package com.ats.service.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ats.dto.JobRescoreRunDTO;
+import com.ats.dto.ResumeAnalysisDTO;
+import com.ats.event.JobScoringCriteriaChangedEvent;
+import com.ats.exception.AtsCustomExceptions.NotFoundException;
+import com.ats.model.Job;
+import com.ats.repository.JobRepository;
+import com.ats.service.JobRescoreService;
+import com.ats.service.ResumeAnalysisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class JobRescoreServiceImpl implements JobRescoreService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRescoreServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    // Applications whose stored analysis can be re-scored; failed analyses have nothing to score
+    private static final String SCORABLE =
+        "a.resume_analysis IS NOT NULL " +
+        "AND a.resume_analysis -> 'analysis_metadata' ->> 'ai_model_used' IS DISTINCT FROM '" + ResumeAnalysisDTO.ERROR_MODEL + "'";
+
+    // Locking the job row serializes runs for the same job, so only one can be active
+    private static final String LOCK_JOB_SQL = "SELECT id FROM jobs WHERE id = ? FOR UPDATE";
+
+    private static final String SUPERSEDE_SQL =
+        "UPDATE job_rescore_runs SET status = 'SUPERSEDED', finished_at = CURRENT_TIMESTAMP " +
+        "WHERE job_id = ? AND status IN ('PENDING', 'RUNNING')";
+
+    private static final String RUN_COLUMNS =
+        "id, job_id, status, total, processed, last_error, created_at, started_at, finished_at";
+
+    private static final String CREATE_SQL =
+        "INSERT INTO job_rescore_runs (job_id, total) " +
+        "SELECT ?, COUNT(*) FROM applications a WHERE a.job_id = ? AND " + SCORABLE + " " +
+        "RETURNING " + RUN_COLUMNS;
+
+    private static final String START_SQL =
+        "UPDATE job_rescore_runs SET status = 'RUNNING', started_at = CURRENT_TIMESTAMP WHERE id = ? AND status = 'PENDING'";
+
+    // Reports 0 rows once a newer run has superseded this one, which tells the runner to stop.
+    // The row lock it takes also holds off a superseding run until the chunk's scores have committed.
+    private static final String PROGRESS_SQL =
+        "UPDATE job_rescore_runs SET processed = processed + ? WHERE id = ? AND status = 'RUNNING'";
+
+    private static final String FINISH_SQL =
+        "UPDATE job_rescore_runs SET status = ?, last_error = ?, finished_at = CURRENT_TIMESTAMP " +
+        "WHERE id = ? AND status IN ('PENDING', 'RUNNING')";
+
+    private static final String LATEST_SQL =
+        "SELECT " + RUN_COLUMNS + " FROM job_rescore_runs WHERE job_id = ? ORDER BY id DESC LIMIT 1";
+
+    private static final String CHUNK_SQL =
+        "SELECT a.id, a.resume_analysis::text AS resume_analysis FROM applications a " +
+        "WHERE a.job_id = ? AND a.id > ? AND " + SCORABLE + " " +
+        "ORDER BY a.id LIMIT ?";
+
+    // One set-based statement per chunk. The version is left alone: a score refresh is not a change a
+    // recruiter made, and bumping it would fail their concurrent bulk status moves with VERSION_CONFLICT.
+    // Application is @DynamicUpdate, so an entity save that did not touch the analysis does not write it back.
+    private static final String WRITE_SCORES_SQL =
+        "UPDATE applications a SET resume_analysis = jsonb_set(a.resume_analysis, '{resume_score}', s.score::jsonb) " +
+        "FROM unnest(?::bigint[], ?::text[]) AS s(id, score) " +
+        "WHERE a.id = s.id AND a.resume_analysis IS NOT NULL";
+
+    private record ScorableApplication(Long id, String analysisJson) {}
+
+    private record Score(Long id, String scoreJson) {}
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    @Qualifier("genericResumeAnalysisService")
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("jobRescoreExecutor")
+    private Executor jobRescoreExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.jobs.rescore.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.jobs.rescore.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool scoringPool;
+    private TransactionTemplate newTransaction;
+
+    @PostConstruct
+    public void init() {
+        scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        // Runs are also started from after-commit listeners, where the finished transaction is still bound
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scoringPool.shutdown();
+        scoringPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Re-score automatically once a change to the job's description or skills has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringCriteriaChanged(JobScoringCriteriaChangedEvent event) {
+        try {
+            startRescore(event.getJobId());
+        } catch (Exception e) {
+            logger.error("Failed to start re-scoring applicants of job ID: {}", event.getJobId(), e);
+        }
+    }
+
+    @Override
+    public JobRescoreRunDTO startRescore(Long jobId) {
+        JobRescoreRunDTO run = newTransaction.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_JOB_SQL, Long.class, jobId).isEmpty()) {
+                throw new NotFoundException("Job not found with ID: " + jobId);
+            }
+            jdbcTemplate.update(SUPERSEDE_SQL, jobId);
+            return jdbcTemplate.queryForObject(CREATE_SQL, (rs, rowNum) -> toRun(rs), jobId, jobId);
+        });
+
+        logger.info("Re-scoring {} applicants of job ID: {} (run {})", run.getTotal(), jobId, run.getId());
+        try {
+            jobRescoreExecutor.execute(() -> execute(run.getId(), jobId));
+        } catch (TaskRejectedException e) {
+            finish(run.getId(), JobRescoreRunDTO.Status.FAILED, "Too many re-score runs queued, try again later");
+            run.setStatus(JobRescoreRunDTO.Status.FAILED);
+        }
+        return run;
+    }
+
+    @Override
+    public Optional<JobRescoreRunDTO> getLatestRun(Long jobId) {
+        return jdbcTemplate.query(LATEST_SQL, (rs, rowNum) -> toRun(rs), jobId).stream().findFirst();
+    }
+
+    /**
+     * Walk the job's analyzed applications in id order, one chunk at a time: score the chunk
+     * in parallel, then record progress and write it back in one transaction
+     */
+    private void execute(Long runId, Long jobId) {
+        if (jdbcTemplate.update(START_SQL, runId) == 0) {
+            return;
+        }
+
+        try {
+            Optional<Job> job = jobRepository.findById(jobId);
+            if (job.isEmpty()) {
+                finish(runId, JobRescoreRunDTO.Status.FAILED, "Job not found with ID: " + jobId);
+                return;
+            }
+
+            long startTime = System.currentTimeMillis();
+            long afterId = 0;
+            int processed = 0;
+            while (true) {
+                List<ScorableApplication> chunk = jdbcTemplate.query(CHUNK_SQL,
+                        (rs, rowNum) -> new ScorableApplication(rs.getLong("id"), rs.getString("resume_analysis")),
+                        jobId, afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<Score> scores = scoringPool.submit(() -> chunk.parallelStream()
+                        .map(application -> score(application, job.get()))
+                        .filter(Objects::nonNull)
+                        .toList()).join();
+                if (!writeChunk(runId, chunk.size(), scores)) {
+                    logger.info("Re-score run {} for job ID: {} was superseded after {} applicants", runId, jobId, processed);
+                    return;
+                }
+
+                afterId = chunk.get(chunk.size() - 1).id();
+                processed += chunk.size();
+            }
+
+            finish(runId, JobRescoreRunDTO.Status.COMPLETED, null);
+            logger.info("Re-scored {} applicants of job ID: {} in {}ms", processed, jobId,
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            logger.error("Re-score run {} for job ID: {} failed", runId, jobId, e);
+            finish(runId, JobRescoreRunDTO.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private Score score(ScorableApplication application, Job job) {
+        try {
+            ResumeAnalysisDTO analysis = objectMapper.readValue(application.analysisJson(), ResumeAnalysisDTO.class);
+            ResumeAnalysisDTO.ResumeScoreDTO score = resumeAnalysisService.scoreForJob(analysis, job);
+            return new Score(application.id(), objectMapper.writeValueAsString(score));
+        } catch (Exception e) {
+            // Leave an unreadable analysis as it is rather than failing the whole run
+            logger.warn("Skipping re-score of application ID: {}: {}", application.id(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write a chunk's scores if the run is still live. Scores computed by a superseded run
+     * come from an outdated job and must not land over those of the run that replaced it.
+     *
+     * @return false if the run has been superseded, in which case nothing was written
+     */
+    private boolean writeChunk(Long runId, int chunkSize, List<Score> scores) {
+        return Boolean.TRUE.equals(newTransaction.execute(status -> {
+            if (jdbcTemplate.update(PROGRESS_SQL, chunkSize, runId) == 0) {
+                return false;
+            }
+            writeScores(scores);
+            return true;
+        }));
+    }
+
+    private void writeScores(List<Score> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        Long[] ids = scores.stream().map(Score::id).toArray(Long[]::new);
+        String[] json = scores.stream().map(Score::scoreJson).toArray(String[]::new);
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(WRITE_SCORES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("text", json));
+            return ps;
+        });
+    }
+
+    private void finish(Long runId, JobRescoreRunDTO.Status status, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(FINISH_SQL, status.name(), lastError, runId);
+    }
+
+    private static JobRescoreRunDTO toRun(ResultSet rs) throws SQLException {
+        return new JobRescoreRunDTO(
+                rs.getLong("id"),
+                rs.getLong("job_id"),
+                JobRescoreRunDTO.Status.valueOf(rs.getString("status")),
+                rs.getInt("total"),
+                rs.getInt("processed"),
+                rs.getString("last_error"),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("started_at", OffsetDateTime.class),
+                rs.getObject("finished_at", OffsetDateTime.class));
+    }
+}
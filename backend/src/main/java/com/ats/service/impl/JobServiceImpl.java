@@ -1,34 +1,51 @@
 package com.ats.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ats.cache.JobBoardCache;
+import com.ats.dto.CursorPageDTO;
+import com.ats.dto.JobCursor;
 import com.ats.dto.JobCustomQuestionDTO;
 import com.ats.dto.JobDTO;
+import com.ats.dto.JobFacetsDTO;
+import com.ats.mapper.JobMapper;
+import com.ats.event.JobChangedEvent;
+import com.ats.event.JobScoringCriteriaChangedEvent;
 import com.ats.exception.AtsCustomExceptions.NotFoundException;
 import com.ats.model.Job;
 import com.ats.model.JobCategory;
+import com.ats.model.JobCustomQuestion;
 import com.ats.model.User;
 import com.ats.service.JobCustomQuestionService;
 import com.ats.service.RegionalDataFilterService;
 import com.ats.model.JobStatus;
+import com.ats.model.RegionView;
 import com.ats.model.WorkSetting;
 import com.ats.repository.JobCategoryRepository;
 import com.ats.repository.JobRepository;
+import static com.ats.repository.JobSpecifications.hasStatusIn;
+import static com.ats.repository.JobSpecifications.hasWorkSettingIn;
+import static com.ats.repository.JobSpecifications.inRegionView;
+import static com.ats.repository.JobSpecifications.matchesText;
 import com.ats.service.JobService;
-import com.ats.util.ModelMapperUtil;
 import com.ats.util.IPUtils;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.Map;
-import java.util.HashSet;
-import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.ats.repository.UserRepository;
@@ -57,21 +74,33 @@ public class JobServiceImpl implements JobService {
     private UserRepository userRepository;
 
     @Autowired
-    private ModelMapperUtil modelMapper;
+    private JobMapper jobMapper;
     
     @Autowired
     private SubscriptionService subscriptionService;
     
     @Autowired
     private EmailService emailService;
+
+    @Autowired
+    private JobBoardCache jobBoardCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
+    @Value("${app.jobs.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.jobs.page.max-size:100}")
+    private int maxPageSize;
+
     @Override
     @Transactional
     public JobDTO createJob(JobDTO jobDTO) {
-        Job job = modelMapper.map(jobDTO, Job.class);
+        Job job = jobMapper.toEntity(jobDTO);
         if (job.getJobStatus() == null){
             job.setJobStatus(JobStatus.DRAFT);
         }
@@ -101,8 +130,10 @@ public class JobServiceImpl implements JobService {
         
         // Save the job first
         job = jobRepository.save(job);
+        publishJobChanged(job);
         
         // Handle custom questions if provided
+        List<JobCustomQuestionDTO> customQuestions = new ArrayList<>();
         if (jobDTO.getCustomQuestions() != null && !jobDTO.getCustomQuestions().isEmpty()) {
             logger.info("Processing {} custom questions for new job ID: {}", 
                        jobDTO.getCustomQuestions().size(), job.getId());
@@ -110,8 +141,8 @@ public class JobServiceImpl implements JobService {
             for (JobCustomQuestionDTO questionDTO : jobDTO.getCustomQuestions()) {
                 questionDTO.setJobId(job.getId());
                 questionDTO.setId(null); // Ensure ID is null for new questions
-                jobCustomQuestionService.createCustomQuestion(questionDTO);
             }
+            customQuestions = jobCustomQuestionService.syncCustomQuestions(job.getId(), jobDTO.getCustomQuestions());
         }
         
         // Notify subscribers if job is published or reopened
@@ -119,42 +150,38 @@ public class JobServiceImpl implements JobService {
             notifySubscribers(job);
         }
         
-        // Return the complete job with custom questions
-        return getJobById(job.getId());
+        // Return the complete job with custom questions, built from what was just saved
+        return toDetailDTO(job, customQuestions);
     }
 
     @Override
     @Transactional(readOnly = true)
     public JobDTO getJobById(Long id) {
-        Optional<Job> jobOpt = jobRepository.findById(id);
-        if (!jobOpt.isPresent()) {
+        // Job, category and custom questions come back in a single query
+        List<Object[]> rows = jobRepository.findDetailRowsById(id);
+        if (rows.isEmpty()) {
             throw new NotFoundException("Job not found with id: " + id);
         }
         
-        Job job = jobOpt.get();
-        JobDTO jobDTO = modelMapper.map(job, JobDTO.class);
-        
-        // Map category information
-        mapCategoryToDTO(job, jobDTO);
-        
-        // Fetch and set custom questions
-        List<JobCustomQuestionDTO> customQuestions = jobCustomQuestionService.getAllCustomQuestionsbyJobId(id);
-        jobDTO.setCustomQuestions(customQuestions);
+        Job job = (Job) rows.get(0)[0];
+        List<JobCustomQuestion> customQuestions = rows.stream()
+                .map(row -> (JobCustomQuestion) row[1])
+                .filter(question -> question != null)
+                .collect(Collectors.toList());
         
-        return jobDTO;
+        return jobMapper.toDetailDTO(job, customQuestions);
     }
     
     /**
-     * Helper method to map category information to JobDTO
+     * Build the detail DTO from a saved job and its custom questions, in the same order as getJobById
      */
-    private void mapCategoryToDTO(Job job, JobDTO jobDTO) {
-        if (job.getCategory() != null) {
-            jobDTO.setCategoryId(job.getCategory().getId());
-            jobDTO.setCategoryName(job.getCategory().getName());
-            jobDTO.setCategoryColor(job.getCategory().getColor());
-        }
+    private JobDTO toDetailDTO(Job job, List<JobCustomQuestionDTO> customQuestions) {
+        JobDTO jobDTO = jobMapper.toDTO(job);
+        customQuestions.sort(Comparator.comparing(JobCustomQuestionDTO::getId));
+        jobDTO.setCustomQuestions(customQuestions);
+        return jobDTO;
     }
-
+    
     @Override
     @Transactional
     public JobDTO updateJob(JobDTO jobDTO, Long id) {
@@ -163,6 +190,8 @@ public class JobServiceImpl implements JobService {
         if (existingJob.isPresent()) {
             Job updatedJob = existingJob.get();
             JobStatus oldStatus = updatedJob.getJobStatus();
+            boolean scoringCriteriaChanged = !Objects.equals(updatedJob.getDescription(), jobDTO.getDescription())
+                    || !Objects.equals(updatedJob.getSkills(), jobDTO.getSkills());
             
             updatedJob.setTitle(jobDTO.getTitle());
             updatedJob.setDescription(jobDTO.getDescription());
@@ -192,11 +221,16 @@ public class JobServiceImpl implements JobService {
             
             // Save the job first
             Job savedJob = jobRepository.save(updatedJob);
+            publishJobChanged(savedJob);
+            if (scoringCriteriaChanged) {
+                // Existing applicants were scored against the old text; re-score them once this commits
+                eventPublisher.publishEvent(new JobScoringCriteriaChangedEvent(savedJob.getId()));
+            }
             
             // Handle custom questions if provided
-            if (jobDTO.getCustomQuestions() != null) {
-                handleCustomQuestionsUpdate(id, jobDTO.getCustomQuestions());
-            }
+            List<JobCustomQuestionDTO> customQuestions = jobDTO.getCustomQuestions() != null
+                    ? jobCustomQuestionService.syncCustomQuestions(id, jobDTO.getCustomQuestions())
+                    : new ArrayList<>(jobCustomQuestionService.getAllCustomQuestionsbyJobId(id));
             
             // Notify subscribers if job status changed to published or reopened
             if ((oldStatus != JobStatus.PUBLISHED && oldStatus != JobStatus.REOPENED) && 
@@ -204,59 +238,19 @@ public class JobServiceImpl implements JobService {
                 notifySubscribers(savedJob);
             }
             
-            // Return the updated job with custom questions
-            return getJobById(id);
+            // Return the updated job with custom questions, built from what was just saved
+            return toDetailDTO(savedJob, customQuestions);
         } else {
             throw new NotFoundException("Job not found with id: " + id);
         }
     }
     
-    /**
-     * Handle updating custom questions for a job
-     * This method will create new questions and delete removed ones
-     */
-    private void handleCustomQuestionsUpdate(Long jobId, List<JobCustomQuestionDTO> newQuestions) {
-        // Get existing questions
-        List<JobCustomQuestionDTO> existingQuestions = jobCustomQuestionService.getAllCustomQuestionsbyJobId(jobId);
-        
-        // Create a map of existing questions by ID for quick lookup
-        Map<Long, JobCustomQuestionDTO> existingQuestionsMap = existingQuestions.stream()
-                .collect(Collectors.toMap(JobCustomQuestionDTO::getId, q -> q));
-        
-        // Track which existing questions are still present
-        Set<Long> keptQuestionIds = new HashSet<>();
-        
-        // Process new questions
-        for (JobCustomQuestionDTO newQuestion : newQuestions) {
-            if (newQuestion.getId() != null && existingQuestionsMap.containsKey(newQuestion.getId())) {
-                // Keep existing question (no update functionality)
-                keptQuestionIds.add(newQuestion.getId());
-            } else {
-                // Create new question
-                newQuestion.setJobId(jobId);
-                newQuestion.setId(null); // Ensure ID is null for new questions
-                jobCustomQuestionService.createCustomQuestion(newQuestion);
-            }
-        }
-        
-        // Delete questions that are no longer present
-        for (JobCustomQuestionDTO existingQuestion : existingQuestions) {
-            if (!keptQuestionIds.contains(existingQuestion.getId())) {
-                try {
-                    jobCustomQuestionService.deleteCustomQuestionById(existingQuestion.getId());
-                } catch (IllegalStateException e) {
-                    // Question has answers, cannot be deleted - log warning but continue
-                    logger.warn("Cannot delete custom question with ID: {} - {}", existingQuestion.getId(), e.getMessage());
-                }
-            }
-        }
-    }
-
     @Override
     public boolean deleteJob(Long id) {
         Optional<Job> job = jobRepository.findById(id);
         if (job.isPresent()) {
             jobRepository.delete(job.get());
+            publishJobChanged(job.get());
             return true;
         }
         return false;
@@ -268,222 +262,188 @@ public class JobServiceImpl implements JobService {
         List<WorkSetting> workSettings, 
         String description
     ) {
-        // Check if request is from ist.com subdomain
-        boolean isISTSubdomain = IPUtils.isISTSubdomain();
-        if (isISTSubdomain) {
-            logger.info("🌍 Request from ist.com subdomain detected - filtering to show only EU jobs");
+        String text = searchTerm(description);
+        Specification<Job> spec = buildJobSpecification(jobStatuses, workSettings);
+
+        // Best matches first when searching, ranked in the same query
+        if (text != null) {
+            return mapRankedJobs(jobRepository.findAllByText(spec, text));
         }
-        
-        // Get current user for regional filtering
-        User currentUser = getCurrentUser();
-        
-        // Create dynamic query using Specifications
-        Specification<Job> spec = Specification.where(null);
-
-        // Add regional filtering based on subdomain or current user
-        if (isISTSubdomain) {
-            // If accessed from ist.com subdomain, only show EU jobs
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("region"), "EU"));
-            logger.info("✅ Applied EU region filter for ist.com subdomain");
-        } else if (currentUser != null) {
-            // Get view mode from session (for EU admins who can switch)
-            Boolean viewingAsNonEU = regionalDataFilterService.getViewModeFromSession(currentUser);
-            String effectiveFilter = regionalDataFilterService.getEffectiveRegionFilter(currentUser, viewingAsNonEU);
-            
-            if (effectiveFilter != null) {
-                if (effectiveFilter.equals("region = 'EU'")) {
-                    spec = spec.and((root, query, cb) -> cb.equal(root.get("region"), "EU"));
-                } else if (effectiveFilter.equals("(region IS NULL OR region != 'EU')")) {
-                    spec = spec.and((root, query, cb) -> cb.or(
-                        cb.isNull(root.get("region")),
-                        cb.notEqual(root.get("region"), "EU")
-                    ));
-                }
-                logger.info("✅ Applied region filter: {} for user {} (viewingAsNonEU: {})", 
-                    effectiveFilter, currentUser.getEmail(), viewingAsNonEU);
-            }
+
+        return jobRepository.findAll(spec)
+                .stream()
+                .map(this::mapJobToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPageDTO<JobDTO> getJobsPage(
+        List<JobStatus> jobStatuses,
+        List<WorkSetting> workSettings,
+        String description,
+        String cursor,
+        Integer size
+    ) {
+        int pageSize = resolvePageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        String text = searchTerm(description);
+        Specification<Job> spec = buildJobSpecification(jobStatuses, workSettings)
+                .and(matchesText(text));
+
+        // Fetch one extra row to know whether another page exists without a count query
+        List<Job> jobs = jobRepository.findPageAfter(spec, after, pageSize + 1);
+        boolean hasMore = jobs.size() > pageSize;
+        if (hasMore) {
+            jobs = jobs.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Job last = jobs.get(jobs.size() - 1);
+            nextCursor = new JobCursor(last.getPostedDate(), last.getId()).encode();
         }
 
-        // Add filters only if parameters are provided
-        if (jobStatuses != null && !jobStatuses.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("jobStatus").in(jobStatuses));
+        Map<Long, Double> relevance = rankJobs(text, jobs);
+        List<JobDTO> items = jobs.stream()
+                .map(job -> mapJobToDTO(job, relevance))
+                .collect(Collectors.toList());
+
+        return new CursorPageDTO<>(items, nextCursor, hasMore, pageSize);
+    }
+
+    @Override
+    public JobFacetsDTO getJobFacets(
+        List<JobStatus> jobStatuses,
+        List<WorkSetting> workSettings,
+        String description
+    ) {
+        RegionView view = resolveRegionView();
+
+        // Normalize the filters so equivalent requests share a cache entry
+        List<JobStatus> statuses = jobStatuses == null ? List.of()
+                : jobStatuses.stream().distinct().sorted().collect(Collectors.toList());
+        List<WorkSetting> settings = workSettings == null ? List.of()
+                : workSettings.stream().distinct().sorted().collect(Collectors.toList());
+        String text = searchTerm(description);
+
+        List<Object> key = Arrays.asList(view, statuses, settings, text);
+        return jobBoardCache.getFacets(key, () -> jobRepository.countFacets(view, statuses, settings, text));
+    }
+
+    /**
+     * Clamp the requested page size to the configured bounds
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
         }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * @return the trimmed search term, or null if none was given
+     */
+    private static String searchTerm(String text) {
+        return text == null || text.isBlank() ? null : text.trim();
+    }
 
-        if (workSettings != null && !workSettings.isEmpty()) {
-            spec = spec.and((root, query, cb) -> root.get("workSetting").in(workSettings));
+    /**
+     * Look up the full-text relevance of one page of matching jobs
+     *
+     * @return job id to relevance score, or null if no term was given
+     */
+    private Map<Long, Double> rankJobs(String text, List<Job> jobs) {
+        if (text == null) {
+            return null;
         }
 
-        if (description != null && !description.isEmpty()) {
-            spec = spec.and((root, query, cb) -> cb.or(
-                cb.like(cb.lower(root.get("title")), "%" + description.toLowerCase() + "%"),
-                cb.like(cb.lower(root.get("description")), "%" + description.toLowerCase() + "%")
-            ));
+        Map<Long, Double> relevance = new HashMap<>();
+        if (!jobs.isEmpty()) {
+            List<Long> ids = jobs.stream().map(Job::getId).collect(Collectors.toList());
+            for (Object[] row : jobRepository.rankJobIds(text, ids)) {
+                relevance.put(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue());
+            }
         }
+        return relevance;
+    }
 
-        // Execute query and map to DTOs
-        return jobRepository.findAll(spec)
-                .stream()
-                .map(this::mapJobToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Build the job listing specification: regional filtering for the current
+     * request plus the optional status and work setting filters
+     */
+    private Specification<Job> buildJobSpecification(
+        List<JobStatus> jobStatuses,
+        List<WorkSetting> workSettings
+    ) {
+        return Specification.where(inRegionView(resolveRegionView()))
+                .and(hasStatusIn(jobStatuses))
+                .and(hasWorkSettingIn(workSettings));
     }
     
     /**
      * Helper method to map Job entity to JobDTO with category information
      */
     private JobDTO mapJobToDTO(Job job) {
-        JobDTO jobDTO = modelMapper.map(job, JobDTO.class);
-        mapCategoryToDTO(job, jobDTO);
-        return jobDTO;
+        return jobMapper.toDTO(job);
     }
-    @Override
-    public List<JobDTO> getActiveJobs() {
-        // Check if request is from ist.com subdomain
-        boolean isISTSubdomain = IPUtils.isISTSubdomain();
-        if (isISTSubdomain) {
-            logger.info("🌍 Request from ist.com subdomain detected in getActiveJobs - filtering to show only EU jobs");
+
+    /**
+     * Map a Job to JobDTO and attach its full-text relevance score, if any
+     */
+    private JobDTO mapJobToDTO(Job job, Map<Long, Double> relevance) {
+        JobDTO jobDTO = mapJobToDTO(job);
+        if (relevance != null) {
+            jobDTO.setRelevance(relevance.get(job.getId()));
         }
-        
-        // Get current user for regional filtering
-        User currentUser = getCurrentUser();
-        
-        List<Job> jobs = jobRepository.findByJobStatusIn(List.of(JobStatus.PUBLISHED, JobStatus.REOPENED));
-        
-        // Apply regional filtering
-        if (isISTSubdomain) {
-            // If accessed from ist.com subdomain, only show EU jobs
-            jobs = jobs.stream()
-                .filter(job -> "EU".equals(job.getRegion()))
-                .collect(Collectors.toList());
-            logger.info("✅ Applied EU region filter for ist.com subdomain in getActiveJobs");
-        } else if (currentUser != null) {
-            // Get view mode from session (for EU admins who can switch)
-            Boolean viewingAsNonEU = regionalDataFilterService.getViewModeFromSession(currentUser);
-            
-            jobs = jobs.stream()
-                .filter(job -> {
-                    String jobRegion = job.getRegion();
-                    
-                    // EU admin viewing as non-EU: show non-EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser) && Boolean.TRUE.equals(viewingAsNonEU)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    // EU admin in default mode: show only EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser)) {
-                        return "EU".equals(jobRegion);
-                    }
-                    
-                    // Non-EU admins can only see non-EU jobs
-                    if (regionalDataFilterService.isNonEUAdmin(currentUser)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    return true; // Fallback
+        return jobDTO;
+    }
+
+    /**
+     * Map rows of [job, relevance score] from a full-text search to DTOs, keeping their order
+     */
+    private List<JobDTO> mapRankedJobs(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> {
+                    JobDTO jobDTO = mapJobToDTO((Job) row[0]);
+                    jobDTO.setRelevance((Double) row[1]);
+                    return jobDTO;
                 })
                 .collect(Collectors.toList());
-        }
-        
-        return jobs.stream()
-                .map(this::mapJobToDTO)
-                .collect(Collectors.toList());
+    }
+    @Override
+    public List<JobDTO> getActiveJobs() {
+        RegionView view = resolveRegionView();
+        return jobBoardCache.getActiveJobs(view,
+            () -> findJobsInRegionView(view, List.of(JobStatus.PUBLISHED, JobStatus.REOPENED)));
     }
 
     @Override
     public List<JobDTO> getPastJobs() {
-        // Check if request is from ist.com subdomain
-        boolean isISTSubdomain = IPUtils.isISTSubdomain();
-        
-        // Get current user for regional filtering
-        User currentUser = getCurrentUser();
-        
-        List<Job> jobs = jobRepository.findByJobStatusIn(List.of(JobStatus.EXPIRED, JobStatus.CLOSED));
-        
-        // Apply regional filtering
-        if (isISTSubdomain) {
-            // If accessed from ist.com subdomain, only show EU jobs
-            jobs = jobs.stream()
-                .filter(job -> "EU".equals(job.getRegion()))
-                .collect(Collectors.toList());
-        } else if (currentUser != null) {
-            // Get view mode from session (for EU admins who can switch)
-            Boolean viewingAsNonEU = regionalDataFilterService.getViewModeFromSession(currentUser);
-            
-            jobs = jobs.stream()
-                .filter(job -> {
-                    String jobRegion = job.getRegion();
-                    
-                    // EU admin viewing as non-EU: show non-EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser) && Boolean.TRUE.equals(viewingAsNonEU)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    // EU admin in default mode: show only EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser)) {
-                        return "EU".equals(jobRegion);
-                    }
-                    
-                    // Non-EU admins can only see non-EU jobs
-                    if (regionalDataFilterService.isNonEUAdmin(currentUser)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    return true; // Fallback
-                })
-                .collect(Collectors.toList());
-        }
-        
-        return jobs.stream()
+        return findJobsInRegionView(resolveRegionView(), List.of(JobStatus.EXPIRED, JobStatus.CLOSED));
+    }
+
+    /**
+     * Find jobs with the given statuses that are visible in a region view.
+     * The region rule is applied in SQL so only the caller's rows are loaded.
+     */
+    private List<JobDTO> findJobsInRegionView(RegionView view, List<JobStatus> statuses) {
+        Specification<Job> spec = Specification.where(inRegionView(view))
+                .and(hasStatusIn(statuses));
+
+        return jobRepository.findAll(spec)
+                .stream()
                 .map(this::mapJobToDTO)
                 .collect(Collectors.toList());
     }
+
     @Override
     public List<JobDTO> searchJobs(String keyword, String filter) {
-        // Check if request is from ist.com subdomain
-        boolean isISTSubdomain = IPUtils.isISTSubdomain();
-        
-        // Get current user for regional filtering
-        User currentUser = getCurrentUser();
-        
-        List<Job> jobs = jobRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            keyword, keyword);
-        
-        // Apply regional filtering
-        if (isISTSubdomain) {
-            // If accessed from ist.com subdomain, only show EU jobs
-            jobs = jobs.stream()
-                .filter(job -> "EU".equals(job.getRegion()))
-                .collect(Collectors.toList());
-        } else if (currentUser != null) {
-            // Get view mode from session (for EU admins who can switch)
-            Boolean viewingAsNonEU = regionalDataFilterService.getViewModeFromSession(currentUser);
-            
-            jobs = jobs.stream()
-                .filter(job -> {
-                    String jobRegion = job.getRegion();
-                    
-                    // EU admin viewing as non-EU: show non-EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser) && Boolean.TRUE.equals(viewingAsNonEU)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    // EU admin in default mode: show only EU jobs
-                    if (regionalDataFilterService.isEUAdmin(currentUser)) {
-                        return "EU".equals(jobRegion);
-                    }
-                    
-                    // Non-EU admins can only see non-EU jobs
-                    if (regionalDataFilterService.isNonEUAdmin(currentUser)) {
-                        return !"EU".equals(jobRegion);
-                    }
-                    
-                    return true; // Fallback
-                })
-                .collect(Collectors.toList());
+        String text = searchTerm(keyword);
+        if (text == null) {
+            return new ArrayList<>();
         }
-        
-        return jobs.stream()
-                .map(this::mapJobToDTO)
-                .collect(Collectors.toList());
+
+        return mapRankedJobs(jobRepository.findAllByText(inRegionView(resolveRegionView()), text));
     }
 
     @Override
@@ -503,6 +463,7 @@ public class JobServiceImpl implements JobService {
             }
             
             Job savedJob = jobRepository.save(updatedJob);
+            publishJobChanged(savedJob);
             
             // Notify subscribers if job status changed to published or reopened
             if ((oldStatus != JobStatus.PUBLISHED && oldStatus != JobStatus.REOPENED) && 
@@ -516,13 +477,44 @@ public class JobServiceImpl implements JobService {
         }
     }
     
+    /**
+     * Let caches and snapshots react to a job change once the transaction commits
+     */
+    private void publishJobChanged(Job job) {
+        eventPublisher.publishEvent(new JobChangedEvent(job.getId(), job.getRegion()));
+    }
+
+    /**
+     * Resolve the regional view for the current request: ist.com subdomain
+     * requests only see EU jobs, otherwise the admin's region and view mode apply
+     */
+    private RegionView resolveRegionView() {
+        if (IPUtils.isISTSubdomain()) {
+            logger.debug("Request from ist.com subdomain detected - restricting to EU jobs");
+            return RegionView.EU;
+        }
+
+        User currentUser = getCurrentUser();
+        if (currentUser == null) {
+            return RegionView.UNRESTRICTED;
+        }
+
+        // Get view mode from session (for EU admins who can switch)
+        Boolean viewingAsNonEU = regionalDataFilterService.getViewModeFromSession(currentUser);
+        RegionView view = regionalDataFilterService.getEffectiveRegionView(currentUser, viewingAsNonEU);
+        logger.debug("Applying region view {} for user {} (viewingAsNonEU: {})",
+            view, currentUser.getEmail(), viewingAsNonEU);
+        return view;
+    }
+
     /**
      * Get the current authenticated user
      */
     private User getCurrentUser() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
+            if (authentication == null || !authentication.isAuthenticated()
+                    || authentication instanceof AnonymousAuthenticationToken) {
                 return null;
             }
             
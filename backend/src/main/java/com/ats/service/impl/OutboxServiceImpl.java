@@ -0,0 +1,146 @@
+package com.ats.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ats.model.OutboxEventType;
+import com.ats.service.OutboxService;
+
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String ENQUEUE_SQL =
+        "INSERT INTO outbox_events (event_type, aggregate_id, dedup_key) VALUES (?, ?, ?) " +
+        "ON CONFLICT (dedup_key) DO NOTHING";
+
+    // Claiming pushes next_attempt_at out by the lease, which doubles as the in-flight marker
+    private static final String CLAIM_SQL =
+        "UPDATE outbox_events SET attempts = attempts + 1, " +
+        "  next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+        "WHERE id IN (" +
+        "  SELECT id FROM outbox_events " +
+        "  WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP " +
+        "  ORDER BY next_attempt_at, id LIMIT ? " +
+        "  FOR UPDATE SKIP LOCKED" +
+        ") RETURNING id, event_type, aggregate_id, attempts";
+
+    private static final String DONE_SQL =
+        "UPDATE outbox_events SET status = 'DONE', processed_at = CURRENT_TIMESTAMP, last_error = NULL " +
+        "WHERE id = ?";
+
+    private static final String EMAIL_SENT_SQL =
+        "SELECT email_notification_id IS NOT NULL FROM outbox_events WHERE id = ?";
+
+    private static final String MARK_EMAIL_SENT_SQL =
+        "UPDATE outbox_events SET email_notification_id = ? WHERE id = ?";
+
+    private static final String RETRY_SQL =
+        "UPDATE outbox_events SET next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?), last_error = ? " +
+        "WHERE id = ? AND status = 'PENDING'";
+
+    private static final String FAILED_SQL =
+        "UPDATE outbox_events SET status = 'FAILED', processed_at = CURRENT_TIMESTAMP, last_error = ? " +
+        "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.outbox.lease-seconds:600}")
+    private int leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.outbox.backoff-max-seconds:21600}")
+    private long backoffMaxSeconds;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OutboxEventType type, Long aggregateId) {
+        jdbcTemplate.update(ENQUEUE_SQL, type.name(), aggregateId, type.name() + ":" + aggregateId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(OutboxEventType type, Map<Long, Long> aggregateVersions) {
+        if (aggregateVersions.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(aggregateVersions.size());
+        aggregateVersions.forEach((aggregateId, version) ->
+                rows.add(new Object[] {type.name(), aggregateId, type.name() + ":" + aggregateId + ":v" + version}));
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, rows);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxEvent> claimDue(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                OutboxEventType.valueOf(rs.getString("event_type")),
+                rs.getLong("aggregate_id"),
+                rs.getInt("attempts")), leaseSeconds, limit);
+    }
+
+    @Override
+    public void markDone(Long eventId) {
+        jdbcTemplate.update(DONE_SQL, eventId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean isEmailSent(Long eventId) {
+        List<Boolean> sent = jdbcTemplate.queryForList(EMAIL_SENT_SQL, Boolean.class, eventId);
+        return !sent.isEmpty() && Boolean.TRUE.equals(sent.get(0));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markEmailSent(Long eventId, Long emailNotificationId) {
+        jdbcTemplate.update(MARK_EMAIL_SENT_SQL, emailNotificationId, eventId);
+    }
+
+    @Override
+    public void markFailed(OutboxEvent event, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (event.attempts() >= maxAttempts) {
+            logger.error("Outbox event {} ({} for {}) failed after {} attempts: {}",
+                    event.id(), event.type(), event.aggregateId(), event.attempts(), error);
+            jdbcTemplate.update(FAILED_SQL, lastError, event.id());
+            return;
+        }
+
+        long delay = backoffSeconds(event.attempts());
+        logger.warn("Outbox event {} ({} for {}) failed on attempt {}, retrying in {}s: {}",
+                event.id(), event.type(), event.aggregateId(), event.attempts(), delay, error);
+        jdbcTemplate.update(RETRY_SQL, delay, lastError, event.id());
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries of a burst of failures spread out
+     */
+    private long backoffSeconds(int attempts) {
+        long exponential = backoffBaseSeconds << Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(exponential, backoffMaxSeconds);
+        return delay + (long) (delay * 0.2 * Math.random());
+    }
+}
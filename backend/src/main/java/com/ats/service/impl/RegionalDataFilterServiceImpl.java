@@ -2,6 +2,7 @@ package com.ats.service.impl;
 
 import com.ats.model.User;
 import com.ats.model.Role;
+import com.ats.model.RegionView;
 import com.ats.service.RegionalDataFilterService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -125,31 +126,35 @@ public class RegionalDataFilterServiceImpl implements RegionalDataFilterService
     
     @Override
     public String getEffectiveRegionFilter(User user, Boolean viewingAsNonEU) {
-        if (user == null) {
-            return null;
+        // Derived from the region view, so the SQL filter and the specification-based job paths apply the same rules
+        switch (getEffectiveRegionView(user, viewingAsNonEU)) {
+            case EU:
+                return "region = 'EU'";
+            case NON_EU:
+                return "(region IS NULL OR region != 'EU')";
+            default:
+                return null; // No filter
         }
-        
-        // Only admins have regional restrictions
-        if (user.getRole() != Role.ADMIN) {
-            return null; // No filter for non-admins
+    }
+    
+    @Override
+    public RegionView getEffectiveRegionView(User user, Boolean viewingAsNonEU) {
+        if (user == null || user.getRole() != Role.ADMIN) {
+            return RegionView.UNRESTRICTED; // No filter for non-admins
         }
         
         // EU admin viewing as non-EU: show non-EU data
         if (isEUAdmin(user) && Boolean.TRUE.equals(viewingAsNonEU)) {
-            return "(region IS NULL OR region != 'EU')";
+            return RegionView.NON_EU;
         }
         
         // EU admin in default mode: show only EU data
         if (isEUAdmin(user)) {
-            return "region = 'EU'";
+            return RegionView.EU;
         }
         
         // Non-EU admin: show non-EU data
-        if (isNonEUAdmin(user)) {
-            return "(region IS NULL OR region != 'EU')";
-        }
-        
-        return null;
+        return RegionView.NON_EU;
     }
     
     @Override
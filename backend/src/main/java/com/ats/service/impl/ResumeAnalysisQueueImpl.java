@@ -0,0 +1,219 @@
+package com.ats.service.impl;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ats.service.ResumeAnalysisQueue;
+
+@Service
+public class ResumeAnalysisQueueImpl implements ResumeAnalysisQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeAnalysisQueueImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String ENQUEUE_SQL =
+        "INSERT INTO resume_analysis_jobs (application_id) VALUES (?) " +
+        "ON CONFLICT (application_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING";
+
+    // A running row past its lease with no attempts left most likely killed its worker (e.g. an OOM on
+    // one resume); dead-letter it rather than let it take down a replica every lease period
+    private static final String REAP_SQL =
+        "UPDATE resume_analysis_jobs SET status = 'DEAD', finished_at = CURRENT_TIMESTAMP, " +
+        "  locked_by = NULL, locked_until = NULL, " +
+        "  last_error = 'Lease expired on the last attempt (worker ' || COALESCE(locked_by, '?') || ')' " +
+        "WHERE status = 'RUNNING' AND locked_until < CURRENT_TIMESTAMP AND attempts >= ? " +
+        "RETURNING id, application_id, attempts";
+
+    // Running rows past their lease belong to a worker that died; they are fair game again
+    private static final String CLAIM_SQL =
+        "UPDATE resume_analysis_jobs SET status = 'RUNNING', attempts = attempts + 1, locked_by = ?, " +
+        "  locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?), started_at = CURRENT_TIMESTAMP " +
+        "WHERE id IN (" +
+        "  SELECT id FROM resume_analysis_jobs " +
+        "  WHERE (status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP) " +
+        "     OR (status = 'RUNNING' AND locked_until < CURRENT_TIMESTAMP) " +
+        "  ORDER BY next_attempt_at, id LIMIT ? " +
+        "  FOR UPDATE SKIP LOCKED" +
+        ") RETURNING id, application_id, attempts, enqueued_at";
+
+    // Completions are fenced on the attempt number, so a worker that outlived its lease cannot
+    // overwrite the outcome of the worker that reclaimed the job
+    private static final String DONE_SQL =
+        "UPDATE resume_analysis_jobs SET status = 'DONE', finished_at = CURRENT_TIMESTAMP, " +
+        "  locked_by = NULL, locked_until = NULL, last_error = NULL " +
+        "WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    private static final String EXTEND_LEASE_SQL =
+        "UPDATE resume_analysis_jobs SET locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+        "WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    private static final String RETRY_SQL =
+        "UPDATE resume_analysis_jobs SET status = 'PENDING', locked_by = NULL, locked_until = NULL, " +
+        "  next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?), last_error = ? " +
+        "WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    private static final String DEAD_SQL =
+        "UPDATE resume_analysis_jobs SET status = 'DEAD', finished_at = CURRENT_TIMESTAMP, " +
+        "  locked_by = NULL, locked_until = NULL, last_error = ? " +
+        "WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    // Each counted status has its own partial index, so this stays cheap however many DONE rows there are
+    private static final String COUNT_SQL =
+        "SELECT status, COUNT(*) FROM resume_analysis_jobs " +
+        "WHERE status IN ('PENDING', 'RUNNING', 'DEAD') GROUP BY status";
+
+    private static final int PURGE_CHUNK_SIZE = 5000;
+
+    // Deletes in chunks so a large backlog of finished rows doesn't hold one long transaction
+    private static final String PURGE_SQL =
+        "DELETE FROM resume_analysis_jobs WHERE id IN (" +
+        "  SELECT id FROM resume_analysis_jobs " +
+        "  WHERE status = ? AND finished_at < CURRENT_TIMESTAMP - make_interval(days => ?) " +
+        "  LIMIT ?" +
+        ")";
+
+    private static final String OLDEST_PENDING_SQL =
+        "SELECT COALESCE(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - MIN(next_attempt_at)), 0)::bigint " +
+        "FROM resume_analysis_jobs WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.resume-analysis.queue.lease-seconds:900}")
+    private int leaseSeconds;
+
+    @Value("${app.resume-analysis.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.resume-analysis.queue.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.resume-analysis.queue.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.resume-analysis.queue.done-retention-days:7}")
+    private int doneRetentionDays;
+
+    @Value("${app.resume-analysis.queue.dead-retention-days:30}")
+    private int deadRetentionDays;
+
+    @Override
+    @Transactional
+    public void enqueue(Long applicationId) {
+        jdbcTemplate.update(ENQUEUE_SQL, applicationId);
+    }
+
+    @Override
+    @Transactional
+    public List<ResumeAnalysisJob> claim(String workerId, int limit) {
+        jdbcTemplate.query(REAP_SQL, rs -> {
+            logger.error("Resume analysis job {} for application {} dead-lettered: lease expired on attempt {}",
+                    rs.getLong("id"), rs.getLong("application_id"), rs.getInt("attempts"));
+        }, maxAttempts);
+
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ResumeAnalysisJob(
+                rs.getLong("id"),
+                rs.getLong("application_id"),
+                rs.getInt("attempts"),
+                rs.getObject("enqueued_at", OffsetDateTime.class)), workerId, leaseSeconds, limit);
+    }
+
+    @Override
+    public void extendLease(Collection<ResumeAnalysisJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(jobs.size());
+        for (ResumeAnalysisJob job : jobs) {
+            rows.add(new Object[] {leaseSeconds, job.id(), job.attempts()});
+        }
+        jdbcTemplate.batchUpdate(EXTEND_LEASE_SQL, rows);
+    }
+
+    @Override
+    public void markDone(ResumeAnalysisJob job) {
+        jdbcTemplate.update(DONE_SQL, job.id(), job.attempts());
+    }
+
+    @Override
+    public boolean markFailed(ResumeAnalysisJob job, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (job.attempts() >= maxAttempts) {
+            logger.error("Resume analysis job {} for application {} dead-lettered after {} attempts: {}",
+                    job.id(), job.applicationId(), job.attempts(), error);
+            jdbcTemplate.update(DEAD_SQL, lastError, job.id(), job.attempts());
+            return true;
+        }
+
+        long delay = backoffSeconds(job.attempts());
+        logger.warn("Resume analysis job {} for application {} failed on attempt {}, retrying in {}s: {}",
+                job.id(), job.applicationId(), job.attempts(), delay, error);
+        jdbcTemplate.update(RETRY_SQL, delay, lastError, job.id(), job.attempts());
+        return false;
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : COUNTED_STATUSES) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            counts.put(Status.valueOf(rs.getString(1)), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    @Override
+    public long oldestPendingAgeSeconds() {
+        Long age = jdbcTemplate.queryForObject(OLDEST_PENDING_SQL, Long.class);
+        return age != null ? age : 0;
+    }
+
+    /**
+     * Remove finished jobs past their retention: the analysis itself is stored on the application,
+     * so a DONE row only matters for a short while; DEAD rows are kept longer for investigation
+     */
+    @Scheduled(cron = "${app.resume-analysis.queue.purge-cron:0 45 3 * * *}")
+    public void purgeFinished() {
+        int done = purge(Status.DONE, doneRetentionDays);
+        int dead = purge(Status.DEAD, deadRetentionDays);
+        if (done > 0 || dead > 0) {
+            logger.info("Purged {} done and {} dead resume analysis jobs", done, dead);
+        }
+    }
+
+    private int purge(Status status, int retentionDays) {
+        int total = 0;
+        int purged;
+        do {
+            purged = jdbcTemplate.update(PURGE_SQL, status.name(), retentionDays, PURGE_CHUNK_SIZE);
+            total += purged;
+        } while (purged == PURGE_CHUNK_SIZE);
+        return total;
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries of a burst of failures spread out
+     */
+    private long backoffSeconds(int attempts) {
+        long exponential = backoffBaseSeconds << Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(exponential, backoffMaxSeconds);
+        return delay + (long) (delay * 0.2 * Math.random());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ats.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ats.dto.ResumeAnalysisDTO;
+import com.ats.service.ResumeContentCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Service
+public class ResumeContentCacheImpl implements ResumeContentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeContentCacheImpl.class);
+
+    // Reading an entry refreshes its last use, which is what the retention purge goes by
+    private static final String FIND_SQL =
+        "UPDATE resume_content_cache SET last_used_at = CURRENT_TIMESTAMP WHERE content_hash = ? " +
+        "RETURNING extracted_text, analysis::text AS analysis, analysis_model";
+
+    private static final String SAVE_TEXT_SQL =
+        "INSERT INTO resume_content_cache (content_hash, extracted_text) VALUES (?, ?) " +
+        "ON CONFLICT (content_hash) DO NOTHING";
+
+    private static final String SAVE_ANALYSIS_SQL =
+        "UPDATE resume_content_cache SET analysis = ?::jsonb, analysis_model = ?, last_used_at = CURRENT_TIMESTAMP " +
+        "WHERE content_hash = ?";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM resume_content_cache WHERE last_used_at < CURRENT_TIMESTAMP - make_interval(days => ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.resume-analysis.cache.retention-days:90}")
+    private int retentionDays;
+
+    @Override
+    public Optional<Entry> find(String contentHash) {
+        try {
+            List<Entry> entries = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new Entry(
+                    rs.getString("extracted_text"),
+                    readAnalysis(rs.getString("analysis")),
+                    rs.getString("analysis_model")), contentHash);
+            return entries.stream().findFirst();
+        } catch (DataAccessException e) {
+            logger.warn("Resume content cache lookup failed for {}: {}", contentHash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveText(String contentHash, String extractedText) {
+        try {
+            jdbcTemplate.update(SAVE_TEXT_SQL, contentHash, extractedText);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to cache resume text for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    @Override
+    public void saveAnalysis(String contentHash, ResumeAnalysisDTO analysis, String model) {
+        try {
+            // Copy before dropping the score, the caller still returns the scored analysis
+            ResumeAnalysisDTO jobIndependent = objectMapper.convertValue(analysis, ResumeAnalysisDTO.class);
+            jobIndependent.setResumeScore(null);
+            jdbcTemplate.update(SAVE_ANALYSIS_SQL, objectMapper.writeValueAsString(jobIndependent), model, contentHash);
+        } catch (DataAccessException | JsonProcessingException | IllegalArgumentException e) {
+            logger.warn("Failed to cache resume analysis for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.resume-analysis.cache.purge-cron:0 30 3 * * *}")
+    public void purgeUnused() {
+        int purged = jdbcTemplate.update(PURGE_SQL, retentionDays);
+        if (purged > 0) {
+            logger.info("Purged {} resume content cache entries unused for {} days", purged, retentionDays);
+        }
+    }
+
+    private ResumeAnalysisDTO readAnalysis(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ResumeAnalysisDTO.class);
+        } catch (JsonProcessingException e) {
+            // Treat an unreadable entry (e.g. from an older DTO shape) as not analyzed yet
+            logger.warn("Ignoring unreadable cached resume analysis: {}", e.getMessage());
+            return null;
+        }
+    }
+}
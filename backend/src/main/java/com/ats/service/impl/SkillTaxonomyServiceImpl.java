@@ -0,0 +1,292 @@
+package com.ats.service.impl;
+
+import com.ats.dto.SkillDTO;
+import com.ats.event.SkillTaxonomyChangedEvent;
+import com.ats.exception.ResourceAlreadyExistsException;
+import com.ats.exception.ResourceNotFoundException;
+import com.ats.model.Skill;
+import com.ats.repository.SkillRepository;
+import com.ats.service.SkillTaxonomyService;
+import com.ats.util.SkillMatcher;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SkillTaxonomyServiceImpl implements SkillTaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomyServiceImpl.class);
+
+    // Stamp that never equals a real one, so the next refresh always rebuilds
+    private static final LocalDateTime UNKNOWN_VERSION = LocalDateTime.MIN;
+
+    private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // The matcher and the taxonomy stamp it was built from, swapped together once a rebuild is complete
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private TransactionTemplate readTransaction;
+
+    private record Snapshot(SkillMatcher matcher, LocalDateTime version) {
+    }
+
+    @PostConstruct
+    public void init() {
+        // Rebuilds run after the writing transaction has committed, so they need a transaction of their own
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    @Transactional
+    public SkillDTO createSkill(SkillDTO skillDTO) {
+        logger.debug("Creating new skill: {}", skillDTO.getName());
+
+        String name = skillDTO.getName().trim();
+        Set<String> synonyms = cleanSynonyms(name, skillDTO.getSynonyms());
+        checkTermsAvailable(null, name, synonyms);
+
+        Skill skill = new Skill();
+        skill.setName(name);
+        skill.setSynonyms(synonyms);
+        skill.setIsActive(skillDTO.getIsActive() != null ? skillDTO.getIsActive() : true);
+
+        Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new SkillTaxonomyChangedEvent(savedSkill.getId()));
+        logger.info("Created skill with ID: {}", savedSkill.getId());
+
+        return mapToDTO(savedSkill);
+    }
+
+    @Override
+    @Transactional
+    public SkillDTO updateSkill(Long id, SkillDTO skillDTO) {
+        logger.debug("Updating skill with ID: {}", id);
+
+        Skill existingSkill = skillRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + id));
+
+        String name = skillDTO.getName() != null ? skillDTO.getName().trim() : existingSkill.getName();
+        Set<String> synonyms = cleanSynonyms(name,
+                skillDTO.getSynonyms() != null ? skillDTO.getSynonyms() : existingSkill.getSynonyms());
+        checkTermsAvailable(id, name, synonyms);
+
+        existingSkill.setName(name);
+        existingSkill.getSynonyms().clear();
+        existingSkill.getSynonyms().addAll(synonyms);
+        if (skillDTO.getIsActive() != null) {
+            existingSkill.setIsActive(skillDTO.getIsActive());
+        }
+        // A change to the synonyms alone does not dirty the skill row, and replicas watch updated_at
+        existingSkill.setUpdatedAt(LocalDateTime.now());
+
+        Skill updatedSkill = skillRepository.save(existingSkill);
+        eventPublisher.publishEvent(new SkillTaxonomyChangedEvent(id));
+        logger.info("Updated skill with ID: {}", id);
+
+        return mapToDTO(updatedSkill);
+    }
+
+    @Override
+    @Transactional
+    public void deleteSkill(Long id) {
+        logger.debug("Deleting skill with ID: {}", id);
+
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + id));
+
+        // Soft delete by setting isActive to false
+        skill.setIsActive(false);
+        skillRepository.save(skill);
+        eventPublisher.publishEvent(new SkillTaxonomyChangedEvent(id));
+
+        logger.info("Soft deleted skill with ID: {}", id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SkillDTO getSkillById(Long id) {
+        logger.debug("Fetching skill with ID: {}", id);
+
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + id));
+
+        return mapToDTO(skill);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SkillDTO> getAllSkills() {
+        logger.debug("Fetching all skills");
+
+        return skillRepository.findAllWithSynonyms().stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SkillDTO> getActiveSkills() {
+        logger.debug("Fetching active skills");
+
+        return skillRepository.findAllWithSynonyms().stream()
+                .filter(skill -> Boolean.TRUE.equals(skill.getIsActive()))
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public SkillMatcher getMatcher() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = rebuild();
+        }
+        return current.matcher();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyChanged(SkillTaxonomyChangedEvent event) {
+        logger.debug("Skill {} changed, rebuilding the skill matcher", event.getSkillId());
+        rebuild();
+    }
+
+    /**
+     * Pick up changes made through other replicas. Only the taxonomy's latest update
+     * time is read unless it has moved since the current matcher was built.
+     */
+    @Scheduled(fixedDelayString = "${app.skills.refresh-interval-ms:60000}",
+               initialDelayString = "${app.skills.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot.get();
+        try {
+            LocalDateTime version = readTransaction.execute(status -> skillRepository.findLastUpdatedAt());
+            if (current == null || !Objects.equals(version, current.version())) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not check the skill taxonomy for changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compile the active skills into a new matcher and swap it in. Rebuilds are serialized so an
+     * older read can never replace a newer one; on failure the previous matcher stays in use.
+     */
+    private synchronized Snapshot rebuild() {
+        try {
+            Snapshot rebuilt = readTransaction.execute(status -> {
+                LocalDateTime version = skillRepository.findLastUpdatedAt();
+                Map<String, String> terms = new LinkedHashMap<>();
+                List<Skill> activeSkills = skillRepository.findAllWithSynonyms().stream()
+                        .filter(skill -> Boolean.TRUE.equals(skill.getIsActive()))
+                        .collect(Collectors.toList());
+                // Names first, so a skill's own name always maps to itself
+                for (Skill skill : activeSkills) {
+                    terms.put(skill.getName(), skill.getName());
+                }
+                for (Skill skill : activeSkills) {
+                    for (String synonym : skill.getSynonyms()) {
+                        terms.putIfAbsent(synonym, skill.getName());
+                    }
+                }
+                return new Snapshot(SkillMatcher.compile(terms), version);
+            });
+            snapshot.set(rebuilt);
+            logger.info("Built skill matcher with {} terms", rebuilt.matcher().termCount());
+            return rebuilt;
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild the skill matcher, keeping the previous one: {}", e.getMessage());
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+            // Nothing to fall back to yet; match nothing until the next refresh succeeds
+            Snapshot empty = new Snapshot(SkillMatcher.EMPTY, UNKNOWN_VERSION);
+            snapshot.set(empty);
+            return empty;
+        }
+    }
+
+    /**
+     * Reject a name or synonym that already belongs to another skill, whatever its case,
+     * since the matcher could only report one of the two skills for it
+     */
+    private void checkTermsAvailable(Long id, String name, Set<String> synonyms) {
+        Map<String, String> takenTerms = new HashMap<>();
+        for (Skill skill : skillRepository.findAllWithSynonyms()) {
+            if (skill.getId().equals(id)) {
+                continue;
+            }
+            takenTerms.put(skill.getName().toLowerCase(Locale.ROOT), skill.getName());
+            for (String synonym : skill.getSynonyms()) {
+                takenTerms.put(synonym.toLowerCase(Locale.ROOT), skill.getName());
+            }
+        }
+
+        List<String> terms = new ArrayList<>();
+        terms.add(name);
+        terms.addAll(synonyms);
+        for (String term : terms) {
+            String owner = takenTerms.get(term.toLowerCase(Locale.ROOT));
+            if (owner != null) {
+                throw new ResourceAlreadyExistsException("'" + term + "' is already used by skill '" + owner + "'");
+            }
+        }
+    }
+
+    private Set<String> cleanSynonyms(String name, Iterable<String> synonyms) {
+        Map<String, String> cleaned = new LinkedHashMap<>();
+        if (synonyms != null) {
+            for (String synonym : synonyms) {
+                if (synonym == null || synonym.isBlank() || synonym.trim().equalsIgnoreCase(name)) {
+                    continue;
+                }
+                cleaned.putIfAbsent(synonym.trim().toLowerCase(Locale.ROOT), synonym.trim());
+            }
+        }
+        return new LinkedHashSet<>(cleaned.values());
+    }
+
+    private SkillDTO mapToDTO(Skill skill) {
+        return SkillDTO.builder()
+                .id(skill.getId())
+                .name(skill.getName())
+                .synonyms(new ArrayList<>(skill.getSynonyms()))
+                .isActive(skill.getIsActive())
+                .build();
+    }
+}
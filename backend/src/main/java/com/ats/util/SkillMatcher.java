@@ -0,0 +1,251 @@
+package com.ats.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a skill dictionary.
+ * Each term (a skill name or one of its synonyms) maps to a canonical skill name, and
+ * {@link #findSkills(CharSequence)} reports every canonical skill mentioned in a text in a
+ * single pass, however many terms the dictionary holds.
+ *
+ * Matching is case-insensitive, treats any run of whitespace as a single space, and only
+ * accepts whole words: a term that starts or ends with a letter or digit must not touch
+ * another letter or digit there, so "Java" is not found in "JavaScript" while "C++" and
+ * ".NET" still match next to punctuation.
+ */
+public final class SkillMatcher {
+
+    public static final SkillMatcher EMPTY = compile(Collections.emptyMap());
+
+    // Per-state transitions, keys sorted for binary search
+    private final char[][] transitionKeys;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // Term ending at each state (-1 if none), and the nearest state on the failure chain that ends a term
+    private final int[] terminal;
+    private final int[] outputLink;
+
+    private final int[] termLength;
+    private final boolean[] termCheckStart;
+    private final boolean[] termCheckEnd;
+    private final int[] termSkill;
+    private final String[] skills;
+
+    private SkillMatcher(char[][] transitionKeys, int[][] transitionTargets, int[] failure, int[] terminal,
+                         int[] outputLink, int[] termLength, boolean[] termCheckStart, boolean[] termCheckEnd,
+                         int[] termSkill, String[] skills) {
+        this.transitionKeys = transitionKeys;
+        this.transitionTargets = transitionTargets;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.outputLink = outputLink;
+        this.termLength = termLength;
+        this.termCheckStart = termCheckStart;
+        this.termCheckEnd = termCheckEnd;
+        this.termSkill = termSkill;
+        this.skills = skills;
+    }
+
+    /**
+     * Compile a dictionary into an automaton.
+     *
+     * @param termToSkill terms to look for, each mapped to the canonical skill it stands for;
+     *                    blank terms are ignored and terms equal after normalisation keep the first mapping
+     * @return the compiled matcher
+     */
+    public static SkillMatcher compile(Map<String, String> termToSkill) {
+        Map<String, Integer> skillIds = new LinkedHashMap<>();
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : termToSkill.entrySet()) {
+            String term = normalize(entry.getKey());
+            if (term.isEmpty() || entry.getValue() == null || terms.containsKey(term)) {
+                continue;
+            }
+            Integer skillId = skillIds.computeIfAbsent(entry.getValue(), skill -> skillIds.size());
+            terms.put(term, skillId);
+        }
+
+        // Build the trie
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(-1);
+
+        int termCount = terms.size();
+        int[] termLength = new int[termCount];
+        boolean[] termCheckStart = new boolean[termCount];
+        boolean[] termCheckEnd = new boolean[termCount];
+        int[] termSkill = new int[termCount];
+
+        int termId = 0;
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            String term = entry.getKey();
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = trie.get(state).get(term.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminals.add(-1);
+                    trie.get(state).put(term.charAt(i), next);
+                }
+                state = next;
+            }
+            terminals.set(state, termId);
+            termLength[termId] = term.length();
+            termCheckStart[termId] = Character.isLetterOrDigit(term.charAt(0));
+            termCheckEnd[termId] = Character.isLetterOrDigit(term.charAt(term.length() - 1));
+            termSkill[termId] = entry.getValue();
+            termId++;
+        }
+
+        int stateCount = trie.size();
+        char[][] transitionKeys = new char[stateCount][];
+        int[][] transitionTargets = new int[stateCount][];
+        int[] terminal = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> children = trie.get(state);
+            transitionKeys[state] = new char[children.size()];
+            transitionTargets[state] = new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                transitionKeys[state][i] = child.getKey();
+                transitionTargets[state][i] = child.getValue();
+                i++;
+            }
+            terminal[state] = terminals.get(state);
+        }
+
+        // Breadth-first pass to fill in failure and output links
+        int[] failure = new int[stateCount];
+        int[] outputLink = new int[stateCount];
+        Arrays.fill(outputLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < transitionKeys[state].length; i++) {
+                char c = transitionKeys[state][i];
+                int child = transitionTargets[state][i];
+
+                int fallback = failure[state];
+                int target;
+                while ((target = step(transitionKeys, transitionTargets, fallback, c)) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target >= 0 ? target : 0;
+                outputLink[child] = terminal[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        return new SkillMatcher(transitionKeys, transitionTargets, failure, terminal, outputLink,
+                termLength, termCheckStart, termCheckEnd, termSkill, skillIds.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Find the skills mentioned in a text.
+     *
+     * @param text the text to scan, may be null
+     * @return canonical skill names in order of first mention, without duplicates
+     */
+    public List<String> findSkills(CharSequence text) {
+        if (text == null || skills.length == 0) {
+            return new ArrayList<>();
+        }
+
+        int length = text.length();
+        // Original index of every character fed to the automaton, to locate a match's first character
+        int[] positions = new int[length];
+        boolean[] found = new boolean[skills.length];
+        List<String> result = new ArrayList<>();
+
+        int fed = 0;
+        int state = 0;
+        boolean previousWhitespace = false;
+        for (int index = 0; index < length; index++) {
+            char c = text.charAt(index);
+            if (Character.isWhitespace(c)) {
+                if (previousWhitespace) {
+                    continue;
+                }
+                c = ' ';
+                previousWhitespace = true;
+            } else {
+                c = Character.toLowerCase(c);
+                previousWhitespace = false;
+            }
+            positions[fed++] = index;
+
+            int next;
+            while ((next = step(transitionKeys, transitionTargets, state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = next >= 0 ? next : 0;
+
+            for (int output = terminal[state] >= 0 ? state : outputLink[state]; output >= 0; output = outputLink[output]) {
+                int term = terminal[output];
+                int skill = termSkill[term];
+                if (!found[skill] && isWholeWord(text, positions[fed - termLength[term]], index, term)) {
+                    found[skill] = true;
+                    result.add(skills[skill]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of distinct terms in the dictionary
+     */
+    public int termCount() {
+        return termLength.length;
+    }
+
+    private boolean isWholeWord(CharSequence text, int start, int end, int term) {
+        if (termCheckStart[term] && start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) {
+            return false;
+        }
+        return !termCheckEnd[term] || end + 1 >= text.length() || !Character.isLetterOrDigit(text.charAt(end + 1));
+    }
+
+    private static int step(char[][] keys, int[][] targets, int state, char c) {
+        int i = Arrays.binarySearch(keys[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+    private static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(term.length());
+        boolean previousWhitespace = true;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousWhitespace) {
+                    normalized.append(' ');
+                }
+                previousWhitespace = true;
+            } else {
+                normalized.append(Character.toLowerCase(c));
+                previousWhitespace = false;
+            }
+        }
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+}
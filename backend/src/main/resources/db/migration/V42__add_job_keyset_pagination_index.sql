@@ -0,0 +1,4 @@
+-- V42: Support keyset pagination of the job listing
+-- Matches ORDER BY posted_date DESC, id DESC used by the cursor-paginated jobs API
+
+CREATE INDEX IF NOT EXISTS idx_jobs_posted_date_id ON jobs(posted_date DESC, id DESC);
@@ -0,0 +1,27 @@
+-- V43: Full-text search for jobs
+-- Weighted tsvector maintained by a trigger: title (A), skills and department (B), description (C)
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION jobs_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(array_to_string(NEW.skills, ' '), '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(NEW.department, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(NEW.description, '')), 'C');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_jobs_search_vector ON jobs;
+CREATE TRIGGER trg_jobs_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, department, skills ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_search_vector_update();
+
+-- Backfill existing rows (fires the trigger)
+UPDATE jobs SET title = title;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+COMMENT ON COLUMN jobs.search_vector IS 'Weighted full-text search document, maintained by trg_jobs_search_vector';
@@ -0,0 +1,5 @@
+-- V44: Support the hourly set-based job expiration sweep
+-- Only open jobs with an expiration date are candidates, so keep the index partial
+
+CREATE INDEX IF NOT EXISTS idx_jobs_open_expiration_date ON jobs(expiration_date, id)
+    WHERE status IN ('PUBLISHED', 'REOPENED') AND expiration_date IS NOT NULL;
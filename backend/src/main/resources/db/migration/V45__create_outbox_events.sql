@@ -0,0 +1,22 @@
+-- V45: Transactional outbox for side effects of application writes
+-- Rows are inserted in the same transaction as the application and dispatched after commit
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    dedup_key VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMPTZ,
+    -- Set in the transaction that records a sent email, so a redelivered event does not send it twice
+    email_notification_id BIGINT,
+    CONSTRAINT uk_outbox_events_dedup_key UNIQUE (dedup_key)
+);
+
+-- The dispatcher only ever scans pending rows that are due
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events(next_attempt_at, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,4 @@
+-- V46: Keyset pagination of a job's applicants, newest first or best resume score first
+-- The score ordering is indexed in V47, on the generated overall_score column
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_created_at ON applications(job_id, created_at DESC, id DESC);
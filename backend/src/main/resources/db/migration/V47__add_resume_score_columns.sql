@@ -0,0 +1,38 @@
+-- V47: Extract resume scores from the resume_analysis JSONB into stored generated columns
+-- Ranking applicants then reads plain indexed columns and never touches the JSON document
+-- Non-numeric values yield NULL instead of failing the write
+
+ALTER TABLE applications
+    ADD COLUMN overall_score INTEGER GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(resume_analysis #> '{resume_score,overall_score}') = 'number'
+             THEN round((resume_analysis #>> '{resume_score,overall_score}')::numeric)::int END
+    ) STORED,
+    ADD COLUMN job_match_score INTEGER GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(resume_analysis #> '{resume_score,job_match_score}') = 'number'
+             THEN round((resume_analysis #>> '{resume_score,job_match_score}')::numeric)::int END
+    ) STORED,
+    ADD COLUMN skills_match_score INTEGER GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(resume_analysis #> '{resume_score,skills_match_score}') = 'number'
+             THEN round((resume_analysis #>> '{resume_score,skills_match_score}')::numeric)::int END
+    ) STORED,
+    ADD COLUMN experience_score INTEGER GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(resume_analysis #> '{resume_score,experience_score}') = 'number'
+             THEN round((resume_analysis #>> '{resume_score,experience_score}')::numeric)::int END
+    ) STORED,
+    ADD COLUMN total_experience_years NUMERIC GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(resume_analysis -> 'total_experience_years') = 'number'
+             THEN (resume_analysis ->> 'total_experience_years')::numeric END
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_overall_score ON applications(job_id, overall_score DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_job_job_match_score ON applications(job_id, job_match_score DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_job_skills_match_score ON applications(job_id, skills_match_score DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_job_experience_score ON applications(job_id, experience_score DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_applications_job_experience_years ON applications(job_id, total_experience_years DESC NULLS LAST, id DESC);
+
+-- Top-K per job and status ("best 50 APPLIED for job X") stops after K index entries
+CREATE INDEX IF NOT EXISTS idx_applications_job_status_overall_score ON applications(job_id, status, overall_score DESC, id DESC)
+    WHERE overall_score IS NOT NULL;
+
+COMMENT ON COLUMN applications.overall_score IS 'Generated from resume_analysis.resume_score.overall_score';
+COMMENT ON COLUMN applications.total_experience_years IS 'Generated from resume_analysis.total_experience_years';
@@ -0,0 +1,65 @@
+-- V48: Trigram search over a job's applicants
+-- Candidate name and email plus the application's current position and company are denormalized
+-- into applications.search_text, kept in sync by triggers on both tables, with a GIN trigram index
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS search_text TEXT;
+
+CREATE OR REPLACE FUNCTION applications_search_text_update() RETURNS trigger AS $$
+BEGIN
+    SELECT lower(concat_ws(' ', u.first_name, u.last_name, u.email, NEW.current_position, NEW.current_company))
+    INTO NEW.search_text
+    FROM users u
+    WHERE u.id = NEW.candidate_id;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_applications_search_text ON applications;
+CREATE TRIGGER trg_applications_search_text
+    BEFORE INSERT OR UPDATE OF candidate_id, current_position, current_company ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_search_text_update();
+
+-- A candidate's name or email change is pushed to all of their applications
+CREATE OR REPLACE FUNCTION users_applications_search_text_update() RETURNS trigger AS $$
+BEGIN
+    UPDATE applications a
+    SET search_text = lower(concat_ws(' ', NEW.first_name, NEW.last_name, NEW.email, a.current_position, a.current_company))
+    WHERE a.candidate_id = NEW.id;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_users_applications_search_text ON users;
+CREATE TRIGGER trg_users_applications_search_text
+    AFTER UPDATE OF first_name, last_name, email ON users
+    FOR EACH ROW
+    WHEN (OLD.first_name IS DISTINCT FROM NEW.first_name
+          OR OLD.last_name IS DISTINCT FROM NEW.last_name
+          OR OLD.email IS DISTINCT FROM NEW.email)
+    EXECUTE FUNCTION users_applications_search_text_update();
+
+-- Backfill existing rows by id range. Only search_text is written, so the row triggers do not fire
+-- and no other column is rewritten; each statement touches at most one batch of applications.
+DO $$
+DECLARE
+    batch_size CONSTANT BIGINT := 5000;
+    next_id BIGINT;
+    max_id BIGINT;
+BEGIN
+    SELECT MIN(id), MAX(id) INTO next_id, max_id FROM applications;
+    WHILE next_id <= max_id LOOP
+        UPDATE applications a
+        SET search_text = lower(concat_ws(' ', u.first_name, u.last_name, u.email, a.current_position, a.current_company))
+        FROM users u
+        WHERE u.id = a.candidate_id
+          AND a.id >= next_id AND a.id < next_id + batch_size;
+        next_id := next_id + batch_size;
+    END LOOP;
+END
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_applications_search_text_trgm ON applications USING GIN (search_text gin_trgm_ops);
+
+COMMENT ON COLUMN applications.search_text IS 'Lower-cased candidate name, email, current position and company, maintained by triggers for trigram search';
@@ -0,0 +1,4 @@
+-- V49: Optimistic locking for applications
+-- Bumped by Hibernate on every entity update and by the bulk status transition
+
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
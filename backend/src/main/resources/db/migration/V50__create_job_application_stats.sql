@@ -0,0 +1,79 @@
+-- V50: Per-job application counts by status, maintained incrementally
+-- Inserts and deletes use statement-level triggers that aggregate each statement's transition
+-- table, so importing or removing N applications costs one upsert per (job, status) pair.
+-- Updates use a row-level trigger limited to status and job_id: PostgreSQL does not allow a
+-- column list on a trigger with transition tables, and without one every update (re-scores,
+-- resume analyses) would materialize both transition tables only to find nothing moved.
+
+CREATE TABLE IF NOT EXISTS job_application_stats (
+    job_id BIGINT NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    application_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id, status)
+);
+
+CREATE OR REPLACE FUNCTION job_application_stats_apply() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO job_application_stats AS s (job_id, status, application_count)
+        SELECT job_id, status, COUNT(*) FROM new_rows
+        WHERE job_id IS NOT NULL
+        GROUP BY job_id, status
+        ORDER BY job_id, status
+        ON CONFLICT (job_id, status) DO UPDATE
+            SET application_count = s.application_count + EXCLUDED.application_count, updated_at = CURRENT_TIMESTAMP;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE job_application_stats s
+        SET application_count = s.application_count - d.removed, updated_at = CURRENT_TIMESTAMP
+        FROM (SELECT job_id, status, COUNT(*) AS removed FROM old_rows GROUP BY job_id, status) d
+        WHERE s.job_id = d.job_id AND s.status = d.status;
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- Move one application between counters; the trigger's WHEN clause only calls this when its job or status changed
+CREATE OR REPLACE FUNCTION job_application_stats_move() RETURNS trigger AS $$
+BEGIN
+    IF OLD.job_id IS NOT NULL THEN
+        UPDATE job_application_stats
+        SET application_count = application_count - 1, updated_at = CURRENT_TIMESTAMP
+        WHERE job_id = OLD.job_id AND status = OLD.status;
+    END IF;
+    IF NEW.job_id IS NOT NULL THEN
+        INSERT INTO job_application_stats AS s (job_id, status, application_count)
+        VALUES (NEW.job_id, NEW.status, 1)
+        ON CONFLICT (job_id, status) DO UPDATE
+            SET application_count = s.application_count + 1, updated_at = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_job_application_stats_insert ON applications;
+CREATE TRIGGER trg_job_application_stats_insert
+    AFTER INSERT ON applications
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_application_stats_apply();
+
+DROP TRIGGER IF EXISTS trg_job_application_stats_update ON applications;
+CREATE TRIGGER trg_job_application_stats_update
+    AFTER UPDATE OF status, job_id ON applications
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.job_id IS DISTINCT FROM NEW.job_id)
+    EXECUTE FUNCTION job_application_stats_move();
+
+DROP TRIGGER IF EXISTS trg_job_application_stats_delete ON applications;
+CREATE TRIGGER trg_job_application_stats_delete
+    AFTER DELETE ON applications
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION job_application_stats_apply();
+
+-- Seed from the current applications
+INSERT INTO job_application_stats (job_id, status, application_count)
+SELECT job_id, status, COUNT(*) FROM applications
+WHERE job_id IS NOT NULL
+GROUP BY job_id, status
+ON CONFLICT (job_id, status) DO UPDATE SET application_count = EXCLUDED.application_count;
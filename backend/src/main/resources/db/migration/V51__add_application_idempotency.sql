@@ -0,0 +1,57 @@
+-- V51: Race-free application submission
+-- One live application per candidate and job, enforced by the database rather than a check-then-insert
+
+-- Earlier double submissions: keep the first application and withdraw the later copies so the index can be built.
+-- Every withdrawn copy is recorded with the status it had, so the change can be reviewed and reverted.
+CREATE TABLE IF NOT EXISTS withdrawn_duplicate_applications (
+    application_id BIGINT PRIMARY KEY,
+    kept_application_id BIGINT NOT NULL,
+    previous_status VARCHAR(50) NOT NULL,
+    withdrawn_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+WITH duplicates AS (
+    SELECT id, kept_id, status
+    FROM (
+        SELECT id, status, MIN(id) OVER (PARTITION BY job_id, candidate_id) AS kept_id
+        FROM applications
+        WHERE status <> 'WITHDRAWN'
+    ) live
+    WHERE id <> kept_id
+), recorded AS (
+    INSERT INTO withdrawn_duplicate_applications (application_id, kept_application_id, previous_status)
+    SELECT id, kept_id, status FROM duplicates
+    ON CONFLICT (application_id) DO NOTHING
+)
+UPDATE applications a
+SET status = 'WITHDRAWN', updated_at = CURRENT_TIMESTAMP
+FROM duplicates d
+WHERE a.id = d.id;
+
+DO $$
+DECLARE
+    withdrawn BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO withdrawn FROM withdrawn_duplicate_applications;
+    IF withdrawn > 0 THEN
+        RAISE WARNING 'V51 withdrew % duplicate live applications; see withdrawn_duplicate_applications', withdrawn;
+    END IF;
+END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_applications_job_candidate_active ON applications(job_id, candidate_id)
+    WHERE status <> 'WITHDRAWN';
+
+-- Short-lived store of Idempotency-Key headers: a retried request replays the first response
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    scope VARCHAR(100) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_status INTEGER,
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
@@ -0,0 +1,6 @@
+-- V52: A candidate's own application list, newest first, and their next scheduled interview
+
+CREATE INDEX IF NOT EXISTS idx_applications_candidate_created_at ON applications(candidate_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_interviews_application_scheduled_at ON interviews(application_id, scheduled_at)
+    WHERE scheduled_at IS NOT NULL;
@@ -0,0 +1,44 @@
+-- V53: Durable resume analysis queue, claimed by workers on any replica with FOR UPDATE SKIP LOCKED
+-- A job is PENDING until claimed, RUNNING while leased to a worker, then DONE or DEAD after its last attempt
+
+CREATE TABLE IF NOT EXISTS resume_analysis_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    application_id BIGINT NOT NULL REFERENCES applications(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMPTZ,
+    last_error TEXT,
+    enqueued_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMPTZ,
+    finished_at TIMESTAMPTZ
+);
+
+-- At most one live job per application, so repeated requests coalesce
+CREATE UNIQUE INDEX IF NOT EXISTS uk_resume_analysis_jobs_live ON resume_analysis_jobs(application_id)
+    WHERE status IN ('PENDING', 'RUNNING');
+
+-- Workers scan due pending rows and running rows whose lease has run out
+CREATE INDEX IF NOT EXISTS idx_resume_analysis_jobs_pending ON resume_analysis_jobs(next_attempt_at, id)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_resume_analysis_jobs_running ON resume_analysis_jobs(locked_until)
+    WHERE status = 'RUNNING';
+
+-- Finished rows are purged after their retention period; the dead-letter index also serves the depth gauge
+CREATE INDEX IF NOT EXISTS idx_resume_analysis_jobs_done ON resume_analysis_jobs(finished_at)
+    WHERE status = 'DONE';
+CREATE INDEX IF NOT EXISTS idx_resume_analysis_jobs_dead ON resume_analysis_jobs(finished_at)
+    WHERE status = 'DEAD';
+
+-- Move analyses still waiting in the outbox onto the queue
+INSERT INTO resume_analysis_jobs (application_id, enqueued_at)
+SELECT o.aggregate_id, MIN(o.created_at)
+FROM outbox_events o
+JOIN applications a ON a.id = o.aggregate_id
+WHERE o.event_type = 'RESUME_ANALYSIS' AND o.status = 'PENDING' AND a.resume_analysis IS NULL
+GROUP BY o.aggregate_id
+ON CONFLICT DO NOTHING;
+
+UPDATE outbox_events SET status = 'DONE', processed_at = CURRENT_TIMESTAMP
+WHERE event_type = 'RESUME_ANALYSIS' AND status = 'PENDING';
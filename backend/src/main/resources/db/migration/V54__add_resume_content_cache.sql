@@ -0,0 +1,14 @@
+-- V54: Resume text and job-independent AI analysis keyed by the SHA-256 of the resume file
+-- The same CV uploaded to several jobs is parsed and sent to the AI backend once, then only re-scored
+
+CREATE TABLE IF NOT EXISTS resume_content_cache (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    extracted_text TEXT NOT NULL,
+    analysis JSONB,
+    analysis_model VARCHAR(255),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_used_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Unused entries are purged after the retention period
+CREATE INDEX IF NOT EXISTS idx_resume_content_cache_last_used_at ON resume_content_cache(last_used_at);
@@ -0,0 +1,16 @@
+-- V55: Progress of re-scoring a job's applicants after its description or skills change
+-- A newer run for the same job supersedes an older one that has not finished
+
+CREATE TABLE IF NOT EXISTS job_rescore_runs (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    total INTEGER NOT NULL DEFAULT 0,
+    processed INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMPTZ,
+    finished_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_rescore_runs_job_id ON job_rescore_runs(job_id, id DESC);
@@ -0,0 +1,57 @@
+-- V56: Admin-editable skill taxonomy used to extract skills from resumes and job descriptions
+-- Each skill is matched by its name and by any of its synonyms (e.g. "k8s" for Kubernetes)
+
+CREATE TABLE IF NOT EXISTS skills (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    is_active BOOLEAN DEFAULT true,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS skill_synonyms (
+    skill_id BIGINT NOT NULL,
+    synonym VARCHAR(100) NOT NULL,
+    CONSTRAINT fk_skill_synonyms_skill
+        FOREIGN KEY (skill_id)
+        REFERENCES skills(id)
+        ON DELETE CASCADE
+);
+
+-- A synonym can only point at one skill, whatever its case
+CREATE UNIQUE INDEX IF NOT EXISTS uk_skill_synonyms_synonym ON skill_synonyms(LOWER(synonym));
+CREATE INDEX IF NOT EXISTS idx_skill_synonyms_skill_id ON skill_synonyms(skill_id);
+
+-- Seed with the skills that used to be hard-coded in the resume analysis
+INSERT INTO skills (name) VALUES
+    ('Java'), ('Python'), ('JavaScript'), ('React'), ('Angular'), ('Vue'), ('Spring'), ('Node.js'),
+    ('SQL'), ('PostgreSQL'), ('MySQL'), ('MongoDB'), ('Docker'), ('Kubernetes'), ('AWS'), ('Azure'),
+    ('Git'), ('HTML'), ('CSS'), ('TypeScript'), ('C++'), ('C#'), ('.NET'), ('PHP'), ('Ruby'), ('Go'),
+    ('Machine Learning'), ('AI'), ('Data Science'), ('DevOps'), ('Agile'), ('Scrum')
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO skill_synonyms (skill_id, synonym)
+SELECT s.id, v.synonym
+FROM (VALUES
+    ('JavaScript', 'JS'), ('JavaScript', 'ECMAScript'),
+    ('TypeScript', 'TS'),
+    ('React', 'ReactJS'), ('React', 'React.js'),
+    ('Angular', 'AngularJS'),
+    ('Vue', 'Vue.js'), ('Vue', 'VueJS'),
+    ('Spring', 'Spring Boot'), ('Spring', 'SpringBoot'), ('Spring', 'Spring Framework'),
+    ('Node.js', 'NodeJS'),
+    ('PostgreSQL', 'Postgres'),
+    ('MongoDB', 'Mongo'),
+    ('Kubernetes', 'K8s'),
+    ('AWS', 'Amazon Web Services'),
+    ('Azure', 'Microsoft Azure'),
+    ('C++', 'CPP'),
+    ('C#', 'CSharp'),
+    ('.NET', 'DotNet'), ('.NET', 'ASP.NET'),
+    ('Ruby', 'Ruby on Rails'),
+    ('Go', 'Golang'),
+    ('Machine Learning', 'ML'),
+    ('AI', 'Artificial Intelligence')
+) AS v(skill, synonym)
+JOIN skills s ON s.name = v.skill
+ON CONFLICT DO NOTHING;
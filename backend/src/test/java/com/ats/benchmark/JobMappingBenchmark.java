@@ -0,0 +1,104 @@
+package com.ats.benchmark;
+
+import com.ats.dto.JobDTO;
+import com.ats.mapper.JobMapper;
+import com.ats.mapper.MappingStrategy;
+import com.ats.model.Job;
+import com.ats.model.JobCategory;
+import com.ats.model.JobStatus;
+import com.ats.model.WorkSetting;
+import com.ats.util.ModelMapperUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the direct and ModelMapper strategies for mapping a job listing.
+ * Run with: mvn test-compile exec:exec -Dbenchmark=JobMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobMappingBenchmark {
+
+    @Param({"20", "200"})
+    private int jobCount;
+
+    private List<Job> jobs;
+    private JobMapper directMapper;
+    private JobMapper reflectiveMapper;
+
+    @Setup
+    public void setUp() {
+        ModelMapperUtil modelMapperUtil = new ModelMapperUtil();
+        directMapper = new JobMapper(modelMapperUtil, MappingStrategy.DIRECT);
+        reflectiveMapper = new JobMapper(modelMapperUtil, MappingStrategy.MODEL_MAPPER);
+
+        JobCategory category = new JobCategory();
+        category.setId(1L);
+        category.setName("Engineering");
+
+        jobs = new ArrayList<>(jobCount);
+        for (int i = 0; i < jobCount; i++) {
+            Job job = new Job();
+            job.setId((long) i);
+            job.setTitle("Job " + i);
+            job.setLocation("Kigali");
+            job.setDescription("Description for job " + i);
+            job.setDepartment("Engineering");
+            job.setEmploymentType("Full-time");
+            job.setSalaryRange("$50k - $70k");
+            job.setSkills(List.of("Java", "Spring", "SQL"));
+            job.setJobStatus(JobStatus.PUBLISHED);
+            job.setWorkSetting(WorkSetting.HYBRID);
+            job.setPostedDate(LocalDate.now());
+            job.setRegion(i % 2 == 0 ? "EU" : "RW");
+            job.setCategory(category);
+            jobs.add(job);
+        }
+    }
+
+    @Benchmark
+    public List<JobDTO> direct() {
+        return mapAll(directMapper);
+    }
+
+    @Benchmark
+    public List<JobDTO> modelMapper() {
+        return mapAll(reflectiveMapper);
+    }
+
+    private List<JobDTO> mapAll(JobMapper mapper) {
+        List<JobDTO> dtos = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            dtos.add(mapper.toDTO(job));
+        }
+        return dtos;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JobMappingBenchmark.class.getSimpleName())
+                .build())
+            .run();
+    }
+}
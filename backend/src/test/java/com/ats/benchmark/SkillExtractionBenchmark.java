@@ -0,0 +1,127 @@
+package com.ats.benchmark;
+
+import com.ats.util.SkillMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-skill lowercase-and-contains scan with the Aho-Corasick skill matcher
+ * for extracting a resume's skills and scoring them against a job's.
+ * Run with: mvn test-compile exec:exec -Dbenchmark=SkillExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillExtractionBenchmark {
+
+    private static final List<String> SEED_SKILLS = Arrays.asList(
+            "Java", "Python", "JavaScript", "React", "Angular", "Vue", "Spring", "Node.js",
+            "SQL", "PostgreSQL", "MySQL", "MongoDB", "Docker", "Kubernetes", "AWS", "Azure",
+            "Git", "HTML", "CSS", "TypeScript", "C++", "C#", ".NET", "PHP", "Ruby", "Go",
+            "Machine Learning", "AI", "Data Science", "DevOps", "Agile", "Scrum"
+    );
+
+    private static final String[] FILLER = {
+            "led", "a", "team", "of", "engineers", "building", "services", "for", "payments", "and",
+            "reporting", "with", "responsibility", "delivery", "mentoring", "the", "platform", "migration"
+    };
+
+    // Taxonomy size: the seeded skills alone, or padded out with generated skills and one synonym each
+    @Param({"32", "500"})
+    private int skillCount;
+
+    // Approximate resume length in words
+    @Param({"500", "5000"})
+    private int wordCount;
+
+    private List<String> skills;
+    private SkillMatcher matcher;
+    private String resumeText;
+    private String jobDescription;
+
+    @Setup
+    public void setUp() {
+        skills = new ArrayList<>(SEED_SKILLS);
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String skill : SEED_SKILLS) {
+            terms.put(skill, skill);
+        }
+        for (int i = SEED_SKILLS.size(); i < skillCount; i++) {
+            String skill = "Framework" + i;
+            skills.add(skill);
+            terms.put(skill, skill);
+            terms.put("fw" + i, skill);
+        }
+        matcher = SkillMatcher.compile(terms);
+
+        Random random = new Random(42);
+        StringBuilder resume = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i % 40 == 0) {
+                resume.append(skills.get(random.nextInt(skills.size()))).append(", ");
+            }
+            resume.append(FILLER[random.nextInt(FILLER.length)]).append(i % 15 == 14 ? ".\n" : " ");
+        }
+        resumeText = resume.toString();
+        jobDescription = "We are looking for a backend engineer with Java, Spring, SQL, Docker and AWS. "
+                + "Experience with Kubernetes, React or TypeScript is a plus.";
+    }
+
+    @Benchmark
+    public double containsScan() {
+        List<String> candidateSkills = skills.stream()
+                .filter(skill -> resumeText.toLowerCase().contains(skill.toLowerCase()))
+                .toList();
+        List<String> requiredSkills = skills.stream()
+                .filter(skill -> jobDescription.toLowerCase().contains(skill.toLowerCase()))
+                .toList();
+        long matching = requiredSkills.stream()
+                .filter(required -> candidateSkills.stream()
+                        .anyMatch(candidate -> candidate.toLowerCase().contains(required.toLowerCase())))
+                .count();
+        return requiredSkills.isEmpty() ? 0 : (double) matching / requiredSkills.size();
+    }
+
+    @Benchmark
+    public double ahoCorasick() {
+        List<String> candidateSkills = matcher.findSkills(resumeText);
+        List<String> requiredSkills = matcher.findSkills(jobDescription);
+        Set<String> candidates = new HashSet<>(candidateSkills);
+        long matching = requiredSkills.stream()
+                .filter(candidates::contains)
+                .count();
+        return requiredSkills.isEmpty() ? 0 : (double) matching / requiredSkills.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillExtractionBenchmark.class.getSimpleName())
+                .build())
+            .run();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ats.mapper;
+
+import com.ats.dto.JobDTO;
+import com.ats.model.Job;
+import com.ats.model.JobCategory;
+import com.ats.model.JobStatus;
+import com.ats.model.WorkSetting;
+import com.ats.util.ModelMapperUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Job Mapper - Direct vs ModelMapper Equivalence")
+class JobMapperEquivalenceTest {
+
+    private final ModelMapperUtil modelMapperUtil = new ModelMapperUtil();
+    private final JobMapper directMapper = new JobMapper(modelMapperUtil, MappingStrategy.DIRECT);
+    private final JobMapper reflectiveMapper = new JobMapper(modelMapperUtil, MappingStrategy.MODEL_MAPPER);
+
+    @Test
+    @DisplayName("✅ A fully populated job maps to the same DTO")
+    void shouldMapFullJobIdentically() {
+        Job job = createFullJob();
+
+        JobDTO direct = directMapper.toDTO(job);
+        JobDTO reflective = reflectiveMapper.toDTO(job);
+
+        assertThat(direct).usingRecursiveComparison().isEqualTo(reflective);
+        assertThat(direct.getCategoryId()).isEqualTo(7L);
+        assertThat(direct.getCategoryName()).isEqualTo("Engineering");
+        assertThat(direct.getCategoryColor()).isEqualTo("#10b981");
+    }
+
+    @Test
+    @DisplayName("✅ A job with only required fields maps to the same DTO")
+    void shouldMapSparseJobIdentically() {
+        Job job = new Job();
+        job.setId(2L);
+        job.setTitle("Intern");
+        job.setLocation("Kigali");
+        job.setJobStatus(JobStatus.DRAFT);
+        job.setWorkSetting(WorkSetting.ONSITE);
+
+        JobDTO direct = directMapper.toDTO(job);
+        JobDTO reflective = reflectiveMapper.toDTO(job);
+
+        assertThat(direct).usingRecursiveComparison().isEqualTo(reflective);
+        assertThat(direct.getSkills()).isNull();
+        assertThat(direct.getCategoryId()).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ Mapped skills are a copy, not the entity's list")
+    void shouldCopySkills() {
+        Job job = createFullJob();
+
+        JobDTO direct = directMapper.toDTO(job);
+        direct.getSkills().add("Kotlin");
+
+        assertThat(job.getSkills()).containsExactly("Java", "Spring", "PostgreSQL");
+    }
+
+    @Test
+    @DisplayName("✅ A DTO maps to the same job, category excluded")
+    void shouldMapDtoToEntityIdentically() {
+        JobDTO dto = directMapper.toDTO(createFullJob());
+        dto.setRelevance(0.5);
+
+        Job direct = directMapper.toEntity(dto);
+        Job reflective = reflectiveMapper.toEntity(dto);
+
+        assertThat(direct).usingRecursiveComparison().isEqualTo(reflective);
+        assertThat(direct.getCategory()).isNull();
+        assertThat(direct.getTitle()).isEqualTo("Backend Engineer");
+    }
+
+    @Test
+    @DisplayName("✅ Round-tripping a job keeps every mapped field")
+    void shouldRoundTripJob() {
+        Job job = createFullJob();
+
+        Job roundTripped = directMapper.toEntity(directMapper.toDTO(job));
+
+        assertThat(roundTripped)
+            .usingRecursiveComparison()
+            .ignoringFields("category", "createdAt", "updatedAt")
+            .isEqualTo(job);
+    }
+
+    private Job createFullJob() {
+        JobCategory category = new JobCategory();
+        category.setId(7L);
+        category.setName("Engineering");
+        category.setColor("#10b981");
+
+        Job job = new Job();
+        job.setId(1L);
+        job.setTitle("Backend Engineer");
+        job.setLocation("Remote");
+        job.setDescription("Build and run the ATS backend");
+        job.setDepartment("Engineering");
+        job.setEmploymentType("Full-time");
+        job.setSalaryRange("$80k - $100k");
+        job.setSkills(new ArrayList<>(List.of("Java", "Spring", "PostgreSQL")));
+        job.setJobStatus(JobStatus.PUBLISHED);
+        job.setWorkSetting(WorkSetting.REMOTE);
+        job.setPostedDate(LocalDate.of(2024, 11, 11));
+        job.setExpirationDate(LocalDate.of(2024, 12, 11));
+        job.setRegion("EU");
+        job.setCategory(category);
+        return job;
+    }
+}
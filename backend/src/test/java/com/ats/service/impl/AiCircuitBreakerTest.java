@@ -0,0 +1,165 @@
+package com.ats.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AI Circuit Breaker - State Machine")
+class AiCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private AiCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-05-01T10:00:00Z"));
+        breaker = new AiCircuitBreaker("test", FAILURE_THRESHOLD, OPEN_DURATION, clock);
+    }
+
+    @Test
+    @DisplayName("✅ A closed breaker should open once consecutive failures reach the threshold")
+    void shouldOpen_WhenFailuresReachThreshold() {
+        // When
+        for (int i = 1; i < FAILURE_THRESHOLD; i++) {
+            breaker.recordFailure();
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ A success should reset the consecutive failure count")
+    void shouldResetFailureCount_WhenCallSucceeds() {
+        // Given
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        // When
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("✅ After the open period only a single trial call should be let through")
+    void shouldAllowSingleTrial_WhenHalfOpen() {
+        // Given
+        open();
+
+        // When
+        clock.advance(OPEN_DURATION);
+
+        // Then
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ A successful trial should close the breaker")
+    void shouldClose_WhenTrialSucceeds() {
+        // Given
+        open();
+        clock.advance(OPEN_DURATION);
+        breaker.allowRequest();
+
+        // When
+        breaker.recordSuccess();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ A failed trial should open the breaker again for a full open period")
+    void shouldReopen_WhenTrialFails() {
+        // Given
+        open();
+        clock.advance(OPEN_DURATION);
+        breaker.allowRequest();
+
+        // When
+        breaker.recordFailure();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        clock.advance(OPEN_DURATION.minusSeconds(1));
+        assertThat(breaker.allowRequest()).isFalse();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ A trial that never reports back should be replaced after another open period")
+    void shouldAllowNewTrial_WhenTrialNeverReports() {
+        // Given
+        open();
+        clock.advance(OPEN_DURATION);
+        breaker.allowRequest();
+
+        // When
+        clock.advance(OPEN_DURATION);
+
+        // Then
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            breaker.recordFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ats.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Applicant CSV Export - Unit Tests")
+class ApplicationExportServiceImplTest {
+
+	private static final Long JOB_ID = 7L;
+
+	@Mock
+	private DataSource dataSource;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private ApplicationExportServiceImpl exportService;
+
+	private final AtomicInteger writtenRows = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		exportService = new ApplicationExportServiceImpl(dataSource, transactionManager, new ObjectMapper(), 500);
+		ReflectionTestUtils.setField(exportService, "cursorJdbcTemplate", jdbcTemplate);
+
+		// Two custom questions, returned in id order
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			handler.processRow(row(Map.of("id", "10", "question_text", "Why us?")));
+			handler.processRow(row(Map.of("id", "11", "question_text", "Notice period")));
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT id, question_text"), any(RowCallbackHandler.class), eq(JOB_ID));
+
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (ResultSet rs : List.of(
+					applicant("1", "Ada", "{\"10\": \"Because, \\\"growth\\\"\", \"11\": \"2 weeks\"}"),
+					applicant("2", "=HYPERLINK(1)", "{\"11\": \"1 month\"}"),
+					applicant("3", "Grace", null))) {
+				handler.processRow(rs);
+				writtenRows.incrementAndGet();
+			}
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT a.id"), any(RowCallbackHandler.class), eq(JOB_ID));
+	}
+
+	@Test
+	@DisplayName("✅ The CSV should have the fixed columns, one column per question and one row per application")
+	void shouldWriteHeaderAndRows() throws Exception {
+		// When
+		List<String> lines = export(() -> false);
+
+		// Then
+		assertThat(lines.get(0)).startsWith("\uFEFFApplication ID,First Name,Last Name,Email,")
+				.endsWith(",Resume URL,Applied At,Why us?,Notice period");
+		assertThat(lines).hasSize(4);
+		int columns = lines.get(0).split(",", -1).length;
+		assertThat(lines.get(3).split(",", -1)).hasSize(columns);
+		assertThat(lines.get(3)).startsWith("3,Grace,Doe,grace@example.com,");
+	}
+
+	@Test
+	@DisplayName("✅ Answers should land under their question, quoted when needed and blank when missing")
+	void shouldPivotAnswersIntoQuestionColumns() throws Exception {
+		// When
+		List<String> lines = export(() -> false);
+
+		// Then
+		assertThat(lines.get(1)).endsWith(",\"Because, \"\"growth\"\"\",2 weeks");
+		assertThat(lines.get(2)).endsWith(",,1 month");
+		assertThat(lines.get(3)).endsWith(",,");
+	}
+
+	@Test
+	@DisplayName("✅ A value a spreadsheet would run as a formula should be written as text")
+	void shouldNeutraliseFormulaCells() throws Exception {
+		// When
+		List<String> lines = export(() -> false);
+
+		// Then
+		assertThat(lines.get(2)).startsWith("2,'=HYPERLINK(1),");
+	}
+
+	@Test
+	@DisplayName("✅ A cancelled export should stop before its next row and return quietly")
+	void shouldStopWritingRows_WhenCancelled() throws Exception {
+		// Given
+		AtomicInteger checks = new AtomicInteger();
+
+		// When
+		exportService.writeApplicantsCsv(JOB_ID, new ByteArrayOutputStream(), () -> checks.incrementAndGet() > 1);
+
+		// Then
+		assertThat(writtenRows).hasValue(1);
+		assertThat(checks).hasValue(2);
+	}
+
+	private List<String> export(BooleanSupplier cancelled) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.writeApplicantsCsv(JOB_ID, out, cancelled);
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertThat(csv).endsWith("\r\n");
+		return List.of(csv.split("\r\n"));
+	}
+
+	private static ResultSet applicant(String id, String firstName, String answers) throws Exception {
+		Map<String, String> values = new HashMap<>();
+		values.put("id", id);
+		values.put("first_name", firstName);
+		values.put("last_name", "Doe");
+		values.put("email", firstName.toLowerCase() + "@example.com");
+		values.put("status", "APPLIED");
+		values.put("resume_url", "/files/resume-" + id + ".pdf");
+		values.put("created_at", "2024-05-01 10:00:00");
+		values.put("answers", answers);
+		return row(values);
+	}
+
+	private static ResultSet row(Map<String, String> values) throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getString(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+		when(rs.getLong(anyString())).thenAnswer(invocation -> Long.parseLong(values.get(invocation.<String>getArgument(0))));
+		return rs;
+	}
+}
@@ -0,0 +1,180 @@
+package com.ats.service.impl;
+
+import com.ats.AtsApplication;
+import com.ats.config.TestConfig;
+import com.ats.dto.ApplicationDTO;
+import com.ats.model.Application;
+import com.ats.model.ApplicationAnswer;
+import com.ats.model.ApplicationStatus;
+import com.ats.model.Job;
+import com.ats.model.JobStatus;
+import com.ats.model.Role;
+import com.ats.model.User;
+import com.ats.model.WorkSetting;
+import com.ats.service.ApplicationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = AtsApplication.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+@DisplayName("Application List Mapping - Query Count Tests")
+class ApplicationServiceImplQueryCountTest {
+
+    private static final int ANSWERS_PER_APPLICATION = 3;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private int userSequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userSequence = 0;
+    }
+
+    @Test
+    @DisplayName("✅ Listing a job's applications should run the same number of queries for 2 or 20 rows")
+    void shouldUseConstantQueries_WhenListingApplicationsByJob() {
+        // Given
+        Job smallJob = createJob("Small Job");
+        Job largeJob = createJob("Large Job");
+        for (int i = 0; i < 2; i++) {
+            createApplication(smallJob, createCandidate());
+        }
+        for (int i = 0; i < 20; i++) {
+            createApplication(largeJob, createCandidate());
+        }
+        flushAndClear();
+
+        // When
+        long smallPageQueries = countQueries(() -> applicationService.getApplicationsByJobId(smallJob.getId(), PageRequest.of(0, 2)));
+        long largePageQueries = countQueries(() -> applicationService.getApplicationsByJobId(largeJob.getId(), PageRequest.of(0, 20)));
+
+        // Then
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("✅ Listing a candidate's applications should run the same number of queries for 2 or 20 rows")
+    void shouldUseConstantQueries_WhenListingApplicationsByCandidate() {
+        // Given
+        User occasionalCandidate = createCandidate();
+        User busyCandidate = createCandidate();
+        for (int i = 0; i < 2; i++) {
+            createApplication(createJob("Job " + i), occasionalCandidate);
+        }
+        for (int i = 0; i < 20; i++) {
+            createApplication(createJob("Job " + i), busyCandidate);
+        }
+        flushAndClear();
+
+        // When
+        long smallPageQueries = countQueries(() -> applicationService.getApplicationsByCandidateId(occasionalCandidate.getId(), PageRequest.of(0, 2)));
+        long largePageQueries = countQueries(() -> applicationService.getApplicationsByCandidateId(busyCandidate.getId(), PageRequest.of(0, 20)));
+
+        // Then
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("✅ Batch-loaded answers should be attached to the right application")
+    void shouldMapEachApplicationsOwnAnswers_WhenListingApplications() {
+        // Given
+        Job job = createJob("Answered Job");
+        for (int i = 0; i < 5; i++) {
+            createApplication(job, createCandidate());
+        }
+        flushAndClear();
+
+        // When
+        Page<ApplicationDTO> page = applicationService.getApplicationsByJobId(job.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(application -> {
+            assertThat(application.getAnswers()).hasSize(ANSWERS_PER_APPLICATION);
+            assertThat(application.getAnswers())
+                    .allSatisfy(answer -> assertThat(answer.getApplicationId()).isEqualTo(application.getId()));
+        });
+    }
+
+    private long countQueries(Supplier<Page<ApplicationDTO>> listing) {
+        entityManager.clear();
+        statistics.clear();
+        Page<ApplicationDTO> page = listing.get();
+        assertThat(page.getContent()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Job createJob(String title) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setLocation("Kigali");
+        job.setJobStatus(JobStatus.PUBLISHED);
+        job.setWorkSetting(WorkSetting.REMOTE);
+        entityManager.persist(job);
+        return job;
+    }
+
+    private User createCandidate() {
+        userSequence++;
+        User candidate = new User();
+        candidate.setEmail("candidate" + userSequence + "@example.com");
+        candidate.setFirstName("Candidate");
+        candidate.setLastName("Number" + userSequence);
+        candidate.setRole(Role.CANDIDATE);
+        entityManager.persist(candidate);
+        return candidate;
+    }
+
+    private void createApplication(Job job, User candidate) {
+        Application application = Application.builder()
+                .job(job)
+                .candidate(candidate)
+                .status(ApplicationStatus.APPLIED)
+                .build();
+        entityManager.persist(application);
+
+        for (long questionId = 1; questionId <= ANSWERS_PER_APPLICATION; questionId++) {
+            entityManager.persist(ApplicationAnswer.builder()
+                    .application(application)
+                    .questionId(questionId)
+                    .answer("Answer " + questionId)
+                    .createdAt(ZonedDateTime.now())
+                    .build());
+        }
+    }
+}
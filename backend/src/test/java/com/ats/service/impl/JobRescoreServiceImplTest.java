@@ -0,0 +1,157 @@
+package com.ats.service.impl;
+
+import com.ats.dto.JobRescoreRunDTO;
+import com.ats.dto.ResumeAnalysisDTO;
+import com.ats.model.Job;
+import com.ats.repository.JobRepository;
+import com.ats.service.ResumeAnalysisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Job Re-score Runs - Unit Tests")
+class JobRescoreServiceImplTest {
+
+    private static final Long JOB_ID = 7L;
+    private static final Long RUN_ID = 42L;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobRescoreServiceImpl jobRescoreService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobRescoreService = new JobRescoreServiceImpl();
+        ReflectionTestUtils.setField(jobRescoreService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(jobRescoreService, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(jobRescoreService, "resumeAnalysisService", resumeAnalysisService);
+        ReflectionTestUtils.setField(jobRescoreService, "objectMapper", new ObjectMapper());
+        // Run on the calling thread, so the whole run has finished when startRescore returns
+        ReflectionTestUtils.setField(jobRescoreService, "jobRescoreExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(jobRescoreService, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(jobRescoreService, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(jobRescoreService, "parallelism", 2);
+        jobRescoreService.init();
+
+        Job job = new Job();
+        job.setId(JOB_ID);
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM jobs"), eq(Long.class), eq(JOB_ID)))
+                .thenReturn(List.of(JOB_ID));
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO job_rescore_runs"), any(RowMapper.class), eq(JOB_ID), eq(JOB_ID)))
+                .thenReturn(new JobRescoreRunDTO(RUN_ID, JOB_ID, JobRescoreRunDTO.Status.PENDING, 2, 0, null, null, null, null));
+        when(jdbcTemplate.update(startsWith("UPDATE job_rescore_runs SET status = 'RUNNING'"), eq(RUN_ID)))
+                .thenReturn(1);
+
+        // One full chunk of two analyzed applications, then nothing left
+        when(jdbcTemplate.query(startsWith("SELECT a.id"), any(RowMapper.class), eq(JOB_ID), eq(0L), eq(CHUNK_SIZE)))
+                .thenAnswer(invocation -> mapRows(invocation.getArgument(1), 1L, 2L));
+        when(resumeAnalysisService.scoreForJob(any(ResumeAnalysisDTO.class), eq(job)))
+                .thenReturn(ResumeAnalysisDTO.ResumeScoreDTO.builder().overallScore(80).jobMatchScore(75).build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jobRescoreService.shutdown();
+    }
+
+    @Test
+    @DisplayName("✅ A chunk's scores should be written in one statement once progress is recorded, without bumping the version")
+    void shouldWriteChunkScores_WhenRunIsLive() throws Exception {
+        // Given
+        when(jdbcTemplate.update(startsWith("UPDATE job_rescore_runs SET processed"), eq(CHUNK_SIZE), eq(RUN_ID)))
+                .thenReturn(1);
+
+        // When
+        jobRescoreService.startRescore(JOB_ID);
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(startsWith("UPDATE job_rescore_runs SET processed"), eq(CHUNK_SIZE), eq(RUN_ID));
+        ArgumentCaptor<PreparedStatementCreator> write = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        inOrder.verify(jdbcTemplate).update(write.capture());
+        inOrder.verify(jdbcTemplate).update(startsWith("UPDATE job_rescore_runs SET status = ?"),
+                eq(JobRescoreRunDTO.Status.COMPLETED.name()), isNull(), eq(RUN_ID));
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(connection.createArrayOf(anyString(), any(Object[].class))).thenReturn(mock(Array.class));
+        write.getValue().createPreparedStatement(connection);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue()).startsWith("UPDATE applications").doesNotContain("version");
+        verify(connection).createArrayOf("bigint", new Long[] {1L, 2L});
+        ArgumentCaptor<Object[]> scores = ArgumentCaptor.forClass(Object[].class);
+        verify(connection).createArrayOf(eq("text"), scores.capture());
+        assertThat(scores.getValue()).hasSize(2);
+        assertThat((String) scores.getValue()[0]).contains("\"overall_score\":80", "\"job_match_score\":75");
+    }
+
+    @Test
+    @DisplayName("✅ A superseded run should stop without writing the chunk it had scored")
+    void shouldNotWriteScores_WhenRunWasSuperseded() {
+        // Given
+        when(jdbcTemplate.update(startsWith("UPDATE job_rescore_runs SET processed"), eq(CHUNK_SIZE), eq(RUN_ID)))
+                .thenReturn(0);
+
+        // When
+        jobRescoreService.startRescore(JOB_ID);
+
+        // Then
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE job_rescore_runs SET status = ?"), any(), any(), any());
+        verify(jdbcTemplate, never()).query(startsWith("SELECT a.id"), any(RowMapper.class), eq(JOB_ID), eq(2L), eq(CHUNK_SIZE));
+    }
+
+    private static List<Object> mapRows(RowMapper<?> rowMapper, Long... ids) throws Exception {
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong("id")).thenReturn(ids[i]);
+            when(rs.getString("resume_analysis")).thenReturn("{\"skills_extracted\":[\"Java\"]}");
+            rows.add(rowMapper.mapRow(rs, i));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ats.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Skill Matcher - Aho-Corasick Dictionary Matching")
+class SkillMatcherTest {
+
+    private final SkillMatcher matcher = SkillMatcher.compile(dictionary());
+
+    @Test
+    @DisplayName("✅ A synonym is reported as its canonical skill")
+    void shouldMapSynonymsToCanonicalSkill() {
+        assertThat(matcher.findSkills("Ran our services on K8s and golang")).containsExactly("Kubernetes", "Go");
+    }
+
+    @Test
+    @DisplayName("✅ A skill is not found inside a longer word")
+    void shouldRespectWordBoundaries() {
+        assertThat(matcher.findSkills("JavaScript developer, good at repairs")).containsExactly("JavaScript");
+        assertThat(matcher.findSkills("Java8 and Gopher")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ Skills ending in symbols match next to punctuation")
+    void shouldMatchSymbolTerms() {
+        assertThat(matcher.findSkills("C++/C# and ASP.NET Core")).containsExactly("C++", "C#", ".NET");
+    }
+
+    @Test
+    @DisplayName("✅ Matching ignores case and line breaks inside a phrase")
+    void shouldIgnoreCaseAndWhitespace() {
+        assertThat(matcher.findSkills("MACHINE\n   learning, JAVA")).containsExactly("Machine Learning", "Java");
+    }
+
+    @Test
+    @DisplayName("✅ Each skill is reported once, in order of first mention")
+    void shouldReportEachSkillOnce() {
+        assertThat(matcher.findSkills("Spring Boot, Java, spring, java")).containsExactly("Spring", "Java");
+    }
+
+    @Test
+    @DisplayName("✅ An empty dictionary or text matches nothing")
+    void shouldHandleEmptyInput() {
+        assertThat(SkillMatcher.EMPTY.findSkills("Java")).isEmpty();
+        assertThat(matcher.findSkills(null)).isEmpty();
+        assertThat(matcher.findSkills("")).isEmpty();
+    }
+
+    private static Map<String, String> dictionary() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String skill : new String[] {"Java", "JavaScript", "Go", "C++", "C#", ".NET", "Spring", "Machine Learning", "Kubernetes"}) {
+            terms.put(skill, skill);
+        }
+        terms.put("K8s", "Kubernetes");
+        terms.put("Golang", "Go");
+        terms.put("Spring Boot", "Spring");
+        return terms;
+    }
+}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { 
   CheckCircleIcon, 
@@ -12,7 +12,7 @@ import {
   PhoneIcon
 } from '@heroicons/react/24/outline';
 import CustomQuestionForm, { CustomQuestion, QuestionAnswer } from './CustomQuestionForm';
-import { applicationService, ApplicationDTO } from '../../services/applicationService';
+import { applicationService, ApplicationDTO, createIdempotencyKey } from '../../services/applicationService';
 import axiosInstance from '../../utils/axios';
 import StyledFileUploader from './StyledFileUploader';
 import { useAuth } from '../../contexts/AuthContext';
@@ -39,6 +39,12 @@ const JobApplicationForm: React.FC<JobApplicationFormProps> = ({ jobId, jobTitle
   const [error, setError] = useState<string>('');
   const [submitSuccess, setSubmitSuccess] = useState<boolean>(false);
   const [validationErrors, setValidationErrors] = useState<Record<number, string>>({});
+
+  // Kept across retries of the same submission; a changed submission gets a new key
+  const idempotencyKeyRef = useRef<string | null>(null);
+  useEffect(() => {
+    idempotencyKeyRef.current = null;
+  }, [resumeFile, coverLetterFile, answers]);
   
   // Questions state
   const [questions, setQuestions] = useState<CustomQuestion[]>([]);
@@ -287,7 +293,10 @@ const JobApplicationForm: React.FC<JobApplicationFormProps> = ({ jobId, jobTitle
       }
       
       // Submit application with files
-      await applicationService.submitApplication(formData);
+      if (!idempotencyKeyRef.current) {
+        idempotencyKeyRef.current = createIdempotencyKey();
+      }
+      await applicationService.submitApplication(formData, idempotencyKeyRef.current);
       
       setSubmitSuccess(true);
       
@@ -11,7 +11,6 @@ import {
   UserGroupIcon,
 } from '@heroicons/react/24/outline';
 import { candidateService, ApplicationDTO } from '../../services/candidateService';
-import { jobService, JobDTO } from '../../services/jobService';
 import { interviewAPI } from '../../services/api';
 import { Interview } from '../../types/interview';
 import CircularProgress from '@mui/material/CircularProgress';
@@ -29,8 +28,6 @@ interface ApplicationStats {
 }
 
 interface EnhancedApplicationDTO extends ApplicationDTO {
-  jobTitle?: string;
-  department?: string;
   appliedDate?: string;
 }
 
@@ -40,7 +37,6 @@ const CandidateDashboardPage: React.FC = () => {
   const [applications, setApplications] = useState<EnhancedApplicationDTO[]>([]);
   const [interviews, setInterviews] = useState<Interview[]>([]);
   const [loading, setLoading] = useState<boolean>(true);
-  const [loadingJobDetails, setLoadingJobDetails] = useState<boolean>(false);
   const [error, setError] = useState<string>('');
   const [stats, setStats] = useState<ApplicationStats>({
     totalApplications: 0,
@@ -82,51 +78,10 @@ const CandidateDashboardPage: React.FC = () => {
           offers,
           rejections
         });
-        
-        // Fetch job details for each application
-        fetchJobDetails(enhancedApplications);
-        
       } catch (err) {
         console.error('Error fetching data:', err);
         setError('Failed to load your applications. Please try again later.');
-        setLoading(false);
-      }
-    };
-    
-    const fetchJobDetails = async (apps: EnhancedApplicationDTO[]) => {
-      try {
-        setLoadingJobDetails(true);
-        
-        // Create a copy of the applications to update
-        const updatedApplications = [...apps];
-        
-        // Fetch job details for each application
-        await Promise.all(
-          apps.map(async (app, index) => {
-            try {
-              const jobDetails = await jobService.getJobById(app.jobId);
-              updatedApplications[index] = {
-                ...updatedApplications[index],
-                jobTitle: jobDetails.title,
-                department: jobDetails.department
-              };
-            } catch (err) {
-              console.error(`Error fetching job details for job ID ${app.jobId}:`, err);
-              // Keep the default values if there's an error
-              updatedApplications[index] = {
-                ...updatedApplications[index],
-                jobTitle: 'Software Engineer Position',
-                department: 'IST'
-              };
-            }
-          })
-        );
-        
-        setApplications(updatedApplications);
-      } catch (err) {
-        console.error('Error fetching job details:', err);
       } finally {
-        setLoadingJobDetails(false);
         setLoading(false);
       }
     };
@@ -348,14 +303,6 @@ const CandidateDashboardPage: React.FC = () => {
         </div>
       ) : error ? (
         <Alert severity="error" className="mb-6">{error}</Alert>
-      ) : loadingJobDetails ? (
-        <div>
-          <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100 mb-3">Your Applications</h3>
-          <div className="flex justify-center items-center py-5">
-            <CircularProgress size={24} />
-            <span className="ml-2 text-gray-600 dark:text-gray-400">Loading job details...</span>
-          </div>
-        </div>
       ) : (
         <div>
           <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100 mb-3">Your Applications</h3>
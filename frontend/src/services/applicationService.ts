@@ -18,13 +18,21 @@ export interface ApplicationAnswer {
   answer: string;
 }
 
+// Identifies one submission across retries, so the backend replays a retried
+// submission instead of rejecting it as a duplicate application
+export const createIdempotencyKey = (): string =>
+  typeof crypto !== "undefined" && typeof crypto.randomUUID === "function"
+    ? crypto.randomUUID()
+    : `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}${Math.random().toString(36).slice(2)}`;
+
 export const applicationService = {
-  // Submit a job application
-  submitApplication: async (formData: FormData) => {
+  // Submit a job application; reuse the same idempotency key when retrying the same submission
+  submitApplication: async (formData: FormData, idempotencyKey?: string) => {
     try {
       const response = await axiosInstance.post(API_URL, formData, {
         headers: {
           "Content-Type": "multipart/form-data",
+          ...(idempotencyKey ? { "Idempotency-Key": idempotencyKey } : {}),
         },
       });
       return response.data;
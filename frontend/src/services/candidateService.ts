@@ -12,7 +12,11 @@ export interface ApplicationDTO {
   currentPosition?: string;
   createdAt?: string;
   updatedAt?: string;
-  // We'll need to transform this data to display job title
+  // Job fields joined in by the server, so the list needs no request per job
+  jobTitle?: string;
+  department?: string;
+  region?: string;
+  nextInterviewAt?: string;
 }
 
 export interface ApplicationsResponse {